@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.10"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.poc"
@@ -29,10 +30,15 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-database-postgresql")
     runtimeOnly("org.postgresql:postgresql")
 
+    // Columnar export (?format=arrow)
+    implementation("org.apache.arrow:arrow-vector:18.1.0")
+    runtimeOnly("org.apache.arrow:arrow-memory-netty:18.1.0")
+
     // v1.3: Portable token validation (Java 8 compatible, zero Spring imports)
     implementation("com.nimbusds:nimbus-jose-jwt:9.47")
     implementation("com.nimbusds:oauth2-oidc-sdk:11.20.1")
@@ -48,6 +54,50 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+// Arrow's off-heap memory needs reflective access to java.nio on JDK 17+
+val arrowJvmArgs = listOf("--add-opens=java.base/java.nio=ALL-UNNAMED")
+
 tasks.withType<Test> {
-    useJUnitPlatform()
+    jvmArgs(arrowJvmArgs)
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+// Load tests start the app on a real port against local stubs; run with ./gradlew loadTest.
+val loadTest by tasks.registering(Test::class) {
+    description = "Runs the @Tag(\"load\") tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+}
+
+// Microbenchmarks live in src/jmh/java; run with ./gradlew jmh (narrow with -Pjmh.includes=Regex).
+// Results land in build/reports/jmh/results.json for diffing between builds.
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    jvmArgsAppend = arrowJvmArgs
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    humanOutputFile = layout.buildDirectory.file("reports/jmh/human.txt")
+    (findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs(arrowJvmArgs)
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
+    manifest {
+        attributes("Add-Opens" to "java.base/java.nio")
+    }
 }
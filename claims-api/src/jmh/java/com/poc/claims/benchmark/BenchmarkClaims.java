@@ -0,0 +1,49 @@
+package com.poc.claims.benchmark;
+
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import com.poc.claims.service.PriorityCalculator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic claim fixtures shared by the benchmarks, shaped like rows loaded from the database.
+ */
+final class BenchmarkClaims {
+
+    private BenchmarkClaims() {}
+
+    static Claim[] random(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        UUID orgId = new UUID(random.nextLong(), random.nextLong());
+        Claim[] claims = new Claim[count];
+        for (int i = 0; i < count; i++) {
+            Claim claim = new Claim();
+            claim.setId(new UUID(random.nextLong(), random.nextLong()));
+            claim.setClaimNumber(String.format("CLM-2026-%05d", i + 1));
+            claim.setUserId(new UUID(random.nextLong(), random.nextLong()));
+            claim.setOrganizationId(orgId);
+            claim.setType(ClaimType.values()[random.nextInt(ClaimType.values().length)]);
+            claim.setStatus(ClaimStatus.values()[random.nextInt(ClaimStatus.values().length)]);
+            claim.setDescription("Claim description " + i + " ".repeat(random.nextInt(200)));
+            claim.setAmount(BigDecimal.valueOf(random.nextInt(20_000_000), 2));
+            claim.setIncidentDate(LocalDate.now().minusDays(random.nextInt(90)));
+            claim.setFiledDate(now.minusSeconds(random.nextInt(45 * 24 * 3600)));
+            claim.setCreatedAt(claim.getFiledDate());
+            claim.setUpdatedAt(claim.getFiledDate());
+
+            PriorityCalculator.PriorityResult pr = PriorityCalculator.calculate(
+                    claim.getType(), claim.getAmount(), claim.getFiledDate(), claim.getStatus(), now);
+            claim.setPriority(pr.priority());
+            claim.setPriorityScore(pr.score());
+            claims[i] = claim;
+        }
+        return claims;
+    }
+}
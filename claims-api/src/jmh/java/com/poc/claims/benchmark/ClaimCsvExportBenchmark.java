@@ -0,0 +1,40 @@
+package com.poc.claims.benchmark;
+
+import com.poc.claims.model.Claim;
+import com.poc.claims.service.ClaimExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV row formatting in the export loop, written to a discarding writer so only formatting and
+ * buffering are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ClaimCsvExportBenchmark.BATCH)
+public class ClaimCsvExportBenchmark {
+
+    static final int BATCH = 1024;
+
+    private Claim[] claims;
+    private Writer writer;
+
+    @Setup
+    public void setUp() {
+        claims = BenchmarkClaims.random(BATCH, 42);
+        writer = new BufferedWriter(Writer.nullWriter(), 64 * 1024);
+    }
+
+    @Benchmark
+    public void writeCsvRows() throws IOException {
+        for (Claim claim : claims) {
+            ClaimExportService.writeCsvRow(writer, claim);
+        }
+        writer.flush();
+    }
+}
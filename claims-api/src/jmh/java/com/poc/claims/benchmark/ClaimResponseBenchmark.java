@@ -0,0 +1,34 @@
+package com.poc.claims.benchmark;
+
+import com.poc.claims.dto.ClaimResponse;
+import com.poc.claims.model.Claim;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping cost per claim, as paid by the list endpoint and the NDJSON export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ClaimResponseBenchmark.BATCH)
+public class ClaimResponseBenchmark {
+
+    static final int BATCH = 1024;
+
+    private Claim[] claims;
+
+    @Setup
+    public void setUp() {
+        claims = BenchmarkClaims.random(BATCH, 42);
+    }
+
+    @Benchmark
+    public void fromEntity(Blackhole bh) {
+        for (Claim claim : claims) {
+            bh.consume(ClaimResponse.fromEntity(claim));
+        }
+    }
+}
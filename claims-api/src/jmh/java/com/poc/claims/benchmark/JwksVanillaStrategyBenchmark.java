@@ -0,0 +1,111 @@
+package com.poc.claims.benchmark;
+
+import com.poc.claims.auth.strategy.JwksVanillaStrategy;
+import com.poc.claims.auth.strategy.TokenValidationResult;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end vanilla JWKS validation against a loopback server that serves a JWKS held in
+ * memory, so the numbers cover parsing, key construction and RSA verification without network
+ * noise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwksVanillaStrategyBenchmark {
+
+    private static final String KID = "bench-key";
+
+    private final JwksVanillaStrategy strategy = new JwksVanillaStrategy();
+    private HttpServer jwksServer;
+    private String issuerUri;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        JSONObject jwk = new JSONObject()
+                .put("kty", "RSA")
+                .put("kid", KID)
+                .put("use", "sig")
+                .put("alg", "RS256")
+                .put("n", base64url(unsigned(publicKey.getModulus())))
+                .put("e", base64url(unsigned(publicKey.getPublicExponent())));
+        byte[] jwks = new JSONObject().put("keys", new JSONArray().put(jwk)).toString()
+                .getBytes(StandardCharsets.UTF_8);
+
+        jwksServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        jwksServer.createContext("/realms/bench/protocol/openid-connect/certs", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            exchange.getResponseBody().write(jwks);
+            exchange.close();
+        });
+        jwksServer.start();
+        issuerUri = "http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/realms/bench";
+
+        long now = System.currentTimeMillis() / 1000;
+        JSONObject header = new JSONObject().put("alg", "RS256").put("kid", KID).put("typ", "JWT");
+        JSONObject payload = new JSONObject()
+                .put("iss", issuerUri)
+                .put("sub", "00000000-0000-0000-0000-000000000099")
+                .put("email", "bench@example.com")
+                .put("loyalty_tier", "gold")
+                .put("iat", now)
+                // Outlives any benchmark run
+                .put("exp", now + 24 * 3600);
+        String signingInput = base64url(header.toString().getBytes(StandardCharsets.UTF_8)) + "."
+                + base64url(payload.toString().getBytes(StandardCharsets.UTF_8));
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(signingInput.getBytes(StandardCharsets.UTF_8));
+        token = signingInput + "." + base64url(signer.sign());
+    }
+
+    @TearDown
+    public void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    @Benchmark
+    public TokenValidationResult validate() {
+        TokenValidationResult result = strategy.validate(token, issuerUri, Collections.emptyMap());
+        if (!result.isValid()) {
+            throw new IllegalStateException(result.getError());
+        }
+        return result;
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    private static String base64url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,57 @@
+package com.poc.claims.benchmark;
+
+import com.poc.claims.config.JwtAuthConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT claim handling: building authorities in the converter and the OrgContext
+ * filter's role lookup, for a user who belongs to several organizations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthConverterBenchmark {
+
+    @Param({"1", "10"})
+    public int organizations;
+
+    private final JwtAuthConverter converter = new JwtAuthConverter();
+    private Jwt jwt;
+    private String lookupOrgId;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> orgs = new HashMap<>();
+        for (int i = 0; i < organizations; i++) {
+            String orgId = String.format("00000000-0000-0000-0000-%012d", i + 1);
+            Map<String, Object> orgData = new HashMap<>();
+            orgData.put("name", "org-" + i);
+            orgData.put("roles", List.of("admin", "billing", "viewer"));
+            orgs.put(orgId, orgData);
+            lookupOrgId = orgId;
+        }
+        jwt = Jwt.withTokenValue("benchmark-token")
+                .header("alg", "RS256")
+                .subject("00000000-0000-0000-0000-000000000099")
+                .claim("email", "bench@example.com")
+                .claim("loyalty_tier", "gold")
+                .claim("organizations", orgs)
+                .build();
+    }
+
+    @Benchmark
+    public Object convert() {
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public List<String> getOrgRoles() {
+        return JwtAuthConverter.getOrgRoles(jwt, lookupOrgId);
+    }
+}
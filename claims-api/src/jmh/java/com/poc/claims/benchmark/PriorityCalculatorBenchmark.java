@@ -0,0 +1,105 @@
+package com.poc.claims.benchmark;
+
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import com.poc.claims.service.PriorityCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores a fixed batch of claims three ways: the per-claim implementation as it was before the
+ * Scorer existed, today's per-claim calculate(), and one Scorer reused for the whole batch.
+ * Run with the gc profiler (configured in build.gradle.kts) to compare allocation per claim.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PriorityCalculatorBenchmark.BATCH)
+public class PriorityCalculatorBenchmark {
+
+    static final int BATCH = 1024;
+
+    private final ClaimType[] types = new ClaimType[BATCH];
+    private final BigDecimal[] amounts = new BigDecimal[BATCH];
+    private final LocalDateTime[] filedDates = new LocalDateTime[BATCH];
+    private final ClaimStatus[] statuses = new ClaimStatus[BATCH];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < BATCH; i++) {
+            types[i] = ClaimType.values()[random.nextInt(ClaimType.values().length)];
+            amounts[i] = BigDecimal.valueOf(random.nextInt(20_000_000), 2);
+            filedDates[i] = now.minusSeconds(random.nextInt(45 * 24 * 3600));
+            statuses[i] = ClaimStatus.values()[random.nextInt(ClaimStatus.values().length)];
+        }
+    }
+
+    @Benchmark
+    public void legacyPerClaim(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(legacyCalculate(types[i], amounts[i], filedDates[i], statuses[i]));
+        }
+    }
+
+    @Benchmark
+    public void calculatePerClaim(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(PriorityCalculator.calculate(types[i], amounts[i], filedDates[i], statuses[i]));
+        }
+    }
+
+    @Benchmark
+    public void scorerBatch(Blackhole bh) {
+        PriorityCalculator.Scorer scorer = PriorityCalculator.scorer(LocalDateTime.now());
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(scorer.priority(types[i], amounts[i], filedDates[i], statuses[i]));
+        }
+    }
+
+    // The calculator before the Scorer fast path, kept here as the baseline
+    private static PriorityCalculator.PriorityResult legacyCalculate(ClaimType type, BigDecimal amount,
+                                                                     LocalDateTime filedDate, ClaimStatus status) {
+        int score = 0;
+        if (amount != null) {
+            if (amount.compareTo(new BigDecimal("100000")) >= 0) {
+                score += 40;
+            } else if (amount.compareTo(new BigDecimal("50000")) >= 0) {
+                score += 30;
+            } else if (amount.compareTo(new BigDecimal("10000")) >= 0) {
+                score += 20;
+            } else if (amount.compareTo(new BigDecimal("1000")) >= 0) {
+                score += 10;
+            }
+        }
+        if (type != null) {
+            switch (type) {
+                case LIABILITY -> score += 20;
+                case PROPERTY -> score += 15;
+                case HEALTH -> score += 10;
+                case AUTO -> score += 5;
+            }
+        }
+        if (filedDate != null) {
+            long daysOld = ChronoUnit.DAYS.between(filedDate, LocalDateTime.now());
+            if (daysOld > 30) {
+                score += 20;
+            } else if (daysOld > 14) {
+                score += 10;
+            } else if (daysOld > 7) {
+                score += 5;
+            }
+        }
+        if (status == ClaimStatus.SUBMITTED || status == ClaimStatus.UNDER_REVIEW) {
+            score += 10;
+        }
+        return new PriorityCalculator.PriorityResult(PriorityCalculator.priorityForScore(score), score);
+    }
+}
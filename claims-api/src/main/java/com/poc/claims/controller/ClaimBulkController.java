@@ -0,0 +1,60 @@
+package com.poc.claims.controller;
+
+import com.poc.claims.config.OrgContext;
+import com.poc.claims.dto.BulkCreateResponse;
+import com.poc.claims.dto.BulkTransitionRequest;
+import com.poc.claims.dto.BulkTransitionResponse;
+import com.poc.claims.service.ClaimBulkService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Collection-level claim operations. They live outside ClaimController because a ':verb' suffix
+ * on /api/claims cannot be expressed relative to its class-level mapping.
+ */
+@RestController
+public class ClaimBulkController {
+
+    private final ClaimBulkService claimBulkService;
+
+    public ClaimBulkController(ClaimBulkService claimBulkService) {
+        this.claimBulkService = claimBulkService;
+    }
+
+    /**
+     * Creates claims from a JSON array or an NDJSON stream of CreateClaimRequest objects. The body
+     * is read incrementally, so it is never held in memory as a whole.
+     */
+    @PostMapping(value = "/api/claims:bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkCreateResponse> createClaims(
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest) throws IOException {
+        OrgContext orgContext = ClaimController.getOrgContext(httpRequest);
+        UUID userId = ClaimController.extractUserId(jwt);
+        return ResponseEntity.ok(claimBulkService.createClaims(httpRequest.getInputStream(), userId, orgContext));
+    }
+
+    /**
+     * Moves a list of claims to one target status. Results are reported per id, in request order.
+     */
+    @PostMapping("/api/claims:transition")
+    public ResponseEntity<BulkTransitionResponse> transitionClaims(
+            @Valid @RequestBody BulkTransitionRequest request,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest) {
+        OrgContext orgContext = ClaimController.getOrgContext(httpRequest);
+        UUID userId = ClaimController.extractUserId(jwt);
+        return ResponseEntity.ok(claimBulkService.transitionClaims(
+                request.getTarget(), request.getClaimIds(), userId, orgContext));
+    }
+}
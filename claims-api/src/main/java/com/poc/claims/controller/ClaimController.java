@@ -9,15 +9,19 @@ import com.poc.claims.model.ClaimEvent;
 import com.poc.claims.model.ClaimNote;
 import com.poc.claims.model.ClaimStatus;
 import com.poc.claims.service.ClaimAttachmentService;
+import com.poc.claims.service.ClaimDetailService;
+import com.poc.claims.service.ClaimExportService;
+import com.poc.claims.service.ClaimRiskAssessmentService;
 import com.poc.claims.service.ClaimNoteService;
 import com.poc.claims.service.ClaimService;
-import com.poc.claims.service.RiskSignalService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,11 +29,13 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/claims")
@@ -38,16 +44,22 @@ public class ClaimController {
     private final ClaimService claimService;
     private final ClaimNoteService claimNoteService;
     private final ClaimAttachmentService claimAttachmentService;
-    private final RiskSignalService riskSignalService;
+    private final ClaimRiskAssessmentService claimRiskAssessmentService;
+    private final ClaimExportService claimExportService;
+    private final ClaimDetailService claimDetailService;
 
     public ClaimController(ClaimService claimService,
                            ClaimNoteService claimNoteService,
                            ClaimAttachmentService claimAttachmentService,
-                           RiskSignalService riskSignalService) {
+                           ClaimRiskAssessmentService claimRiskAssessmentService,
+                           ClaimExportService claimExportService,
+                           ClaimDetailService claimDetailService) {
         this.claimService = claimService;
         this.claimNoteService = claimNoteService;
         this.claimAttachmentService = claimAttachmentService;
-        this.riskSignalService = riskSignalService;
+        this.claimRiskAssessmentService = claimRiskAssessmentService;
+        this.claimExportService = claimExportService;
+        this.claimDetailService = claimDetailService;
     }
 
     @PostMapping
@@ -62,22 +74,28 @@ public class ClaimController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ClaimResponse.fromEntity(claim));
     }
 
+    /**
+     * With If-Match (the ETag from a previous GET) the update is refused with 412 if the claim
+     * has changed since.
+     */
     @PutMapping("/{id}")
     public ResponseEntity<ClaimResponse> updateClaim(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateClaimRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest httpRequest) {
         OrgContext orgContext = getOrgContext(httpRequest);
         UUID userId = extractUserId(jwt);
 
-        Claim claim = claimService.updateClaim(id, request, userId, orgContext);
-        return ResponseEntity.ok(ClaimResponse.fromEntity(claim));
+        Claim claim = claimService.updateClaim(id, request, expectedVersion(ifMatch), userId, orgContext);
+        return ResponseEntity.ok().eTag(claimETag(claim.getVersion())).body(ClaimResponse.fromEntity(claim));
     }
 
     @GetMapping
-    public ResponseEntity<Page<ClaimResponse>> listClaims(
+    public ResponseEntity<Page<?>> listClaims(
             @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "full") String view,
             @PageableDefault(size = 20) Pageable pageable,
             HttpServletRequest httpRequest) {
         OrgContext orgContext = getOrgContext(httpRequest);
@@ -87,50 +105,137 @@ public class ClaimController {
             claimStatus = ClaimStatus.valueOf(status);
         }
 
+        if ("summary".equals(view)) {
+            return ResponseEntity.ok(claimService.listClaimSummaries(orgContext, claimStatus, pageable));
+        }
+        if (!"full".equals(view)) {
+            throw new IllegalStateException("view must be 'full' or 'summary'");
+        }
         Page<ClaimResponse> claims = claimService.listClaims(orgContext, claimStatus, pageable)
             .map(ClaimResponse::fromEntity);
         return ResponseEntity.ok(claims);
     }
 
+    @GetMapping(params = "mode=slice")
+    public ResponseEntity<SliceResponse<ClaimResponse>> listClaimsSlice(
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @PageableDefault(size = 20) Pageable pageable,
+            HttpServletRequest httpRequest) {
+        OrgContext orgContext = getOrgContext(httpRequest);
+
+        ClaimStatus claimStatus = null;
+        if (status != null && !status.isEmpty()) {
+            claimStatus = ClaimStatus.valueOf(status);
+        }
+
+        SliceResponse<ClaimResponse> claims = claimService.listClaimsSlice(orgContext, claimStatus, pageable, includeTotal)
+            .map(ClaimResponse::fromEntity);
+        return ResponseEntity.ok(claims);
+    }
+
+    @GetMapping(params = "mode=cursor")
+    public ResponseEntity<CursorPage<ClaimResponse>> listClaimsByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest httpRequest) {
+        OrgContext orgContext = getOrgContext(httpRequest);
+
+        ClaimStatus claimStatus = null;
+        if (status != null && !status.isEmpty()) {
+            claimStatus = ClaimStatus.valueOf(status);
+        }
+
+        CursorPage<ClaimResponse> claims = claimService.listClaimsByCursor(orgContext, claimStatus, cursor, size)
+            .map(ClaimResponse::fromEntity);
+        return ResponseEntity.ok(claims);
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<ClaimStatsResponse> getClaimStats(HttpServletRequest httpRequest) {
         OrgContext orgContext = getOrgContext(httpRequest);
         return ResponseEntity.ok(claimService.getClaimStats(orgContext));
     }
 
+    @GetMapping("/stats/timeseries")
+    public ResponseEntity<ClaimTimeSeriesResponse> getClaimTimeSeries(
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest httpRequest) {
+        OrgContext orgContext = getOrgContext(httpRequest);
+        return ResponseEntity.ok(claimService.getClaimTimeSeries(orgContext, bucket, from, to));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<ClaimStatsResponse> rebuildClaimStats(HttpServletRequest httpRequest) {
+        OrgContext orgContext = getOrgContext(httpRequest);
+        return ResponseEntity.ok(claimService.rebuildClaimStats(orgContext));
+    }
+
     @GetMapping("/export")
-    public void exportClaims(HttpServletRequest httpRequest, HttpServletResponse response) throws IOException {
+    public void exportClaims(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response) throws IOException {
         OrgContext orgContext = getOrgContext(httpRequest);
-        List<Claim> claims = claimService.listAllClaims(orgContext);
-
-        response.setContentType("text/csv");
-        response.setHeader("Content-Disposition", "attachment; filename=\"claims-export.csv\"");
-
-        PrintWriter writer = response.getWriter();
-        writer.println("Claim Number,Type,Status,Amount,Incident Date,Filed Date,Priority");
-        for (Claim claim : claims) {
-            var pr = com.poc.claims.service.PriorityCalculator.calculate(
-                    claim.getType(), claim.getAmount(), claim.getFiledDate(), claim.getStatus());
-            writer.printf("%s,%s,%s,%s,%s,%s,%s%n",
-                    claim.getClaimNumber(),
-                    claim.getType(),
-                    claim.getStatus(),
-                    claim.getAmount() != null ? claim.getAmount().toPlainString() : "",
-                    claim.getIncidentDate() != null ? claim.getIncidentDate().toString() : "",
-                    claim.getFiledDate() != null ? claim.getFiledDate().toString() : "",
-                    pr.priority());
+        ClaimExportService.Format exportFormat = ClaimExportService.Format.parse(format);
+        boolean gzip = acceptsGzip(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.setContentType(exportFormat.getContentType());
+        if (exportFormat.isText()) {
+            response.setCharacterEncoding("UTF-8");
+        }
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"claims-export." + exportFormat.getExtension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+            claimExportService.export(orgContext, exportFormat, gzipOut);
+            gzipOut.finish();
+        } else {
+            claimExportService.export(orgContext, exportFormat, out);
         }
-        writer.flush();
+        out.flush();
     }
 
+    /**
+     * The claim, with a strong ETag of its version. A matching If-None-Match gets 304 after a
+     * version lookup, without loading or serializing the claim.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<ClaimResponse> getClaim(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             HttpServletRequest httpRequest) {
         OrgContext orgContext = getOrgContext(httpRequest);
 
+        if (ifNoneMatch != null) {
+            String eTag = claimETag(claimService.getClaimVersion(id, orgContext));
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
         Claim claim = claimService.getClaim(id, orgContext);
-        return ResponseEntity.ok(ClaimResponse.fromEntity(claim));
+        return ResponseEntity.ok().eTag(claimETag(claim.getVersion())).body(ClaimResponse.fromEntity(claim));
+    }
+
+    /**
+     * The claim plus its events, notes, attachments and risk signals in one response.
+     * {@code include} narrows the parts, e.g. {@code include=events,risk}.
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<ClaimDetailResponse> getClaimDetail(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String include,
+            HttpServletRequest httpRequest) {
+        OrgContext orgContext = getOrgContext(httpRequest);
+        return ResponseEntity.ok(claimDetailService.getDetail(id, orgContext, ClaimDetailService.parseInclude(include)));
     }
 
     @PostMapping("/{id}/submit")
@@ -193,17 +298,69 @@ public class ClaimController {
         return ResponseEntity.ok(ClaimResponse.fromEntity(claim));
     }
 
+    /**
+     * The claim's timeline, oldest first. With {@code limit}, {@code after} or {@code direction}
+     * it returns one keyset page instead; the body stays a plain list and the cursor for the next
+     * page comes back in X-Next-Cursor, absent on the last page.
+     *
+     * The ETag is the newest event's id, which covers every page since events are never changed
+     * or removed; a matching If-None-Match gets 304 without reading the events. Without the
+     * header the newest id is taken from the events just read where they include it (the full
+     * timeline, or the first newest-first page) and looked up only for other pages.
+     */
     @GetMapping("/{id}/events")
     public ResponseEntity<List<ClaimEventResponse>> getClaimEvents(
             @PathVariable UUID id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String direction,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             HttpServletRequest httpRequest) {
         OrgContext orgContext = getOrgContext(httpRequest);
 
-        List<ClaimEventResponse> events = claimService.getClaimEvents(id, orgContext)
-            .stream()
-            .map(ClaimEventResponse::fromEntity)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(events);
+        String eTag = null;
+        if (ifNoneMatch != null) {
+            eTag = eventsETag(claimService.getLatestEventId(id, orgContext));
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        if (after == null && limit == null && direction == null) {
+            List<ClaimEventResponse> events = claimService.getClaimEvents(id, orgContext)
+                .stream()
+                .map(ClaimEventResponse::fromEntity)
+                .collect(Collectors.toList());
+            if (eTag == null) {
+                // Oldest first, so the last event is the newest
+                eTag = eventsETag(events.isEmpty() ? null : events.get(events.size() - 1).getId());
+            }
+            return ResponseEntity.ok().eTag(eTag).body(events);
+        }
+
+        boolean newestFirst;
+        if (direction == null || "asc".equals(direction)) {
+            newestFirst = false;
+        } else if ("desc".equals(direction)) {
+            newestFirst = true;
+        } else {
+            throw new IllegalStateException("direction must be 'asc' or 'desc'");
+        }
+
+        CursorPage<ClaimEventResponse> page = claimService.getClaimEventsPage(
+                id, orgContext, after, limit != null ? limit : 50, newestFirst)
+            .map(ClaimEventResponse::fromEntity);
+        if (eTag == null) {
+            boolean firstPage = after == null || after.isEmpty();
+            eTag = newestFirst && firstPage
+                ? eventsETag(page.getItems().isEmpty() ? null : page.getItems().get(0).getId())
+                : eventsETag(claimService.getLatestEventId(id, orgContext));
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     // --- v1.2 endpoints ---
@@ -213,8 +370,15 @@ public class ClaimController {
             @PathVariable UUID id,
             HttpServletRequest httpRequest) {
         OrgContext orgContext = getOrgContext(httpRequest);
-        Claim claim = claimService.getClaim(id, orgContext);
-        return ResponseEntity.ok(riskSignalService.assessRisk(claim, orgContext.getOrganizationId()));
+        return ResponseEntity.ok(claimRiskAssessmentService.getAssessment(id, orgContext));
+    }
+
+    @PostMapping("/risk-signals:batch")
+    public ResponseEntity<Map<UUID, RiskSignalResponse>> getRiskSignalsBatch(
+            @Valid @RequestBody RiskSignalBatchRequest request,
+            HttpServletRequest httpRequest) {
+        OrgContext orgContext = getOrgContext(httpRequest);
+        return ResponseEntity.ok(claimRiskAssessmentService.getAssessments(request.getClaimIds(), orgContext));
     }
 
     @GetMapping("/{id}/notes")
@@ -282,7 +446,50 @@ public class ClaimController {
         return ResponseEntity.noContent().build();
     }
 
-    private OrgContext getOrgContext(HttpServletRequest request) {
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" means the client explicitly refuses it
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String claimETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static String eventsETag(UUID latestEventId) {
+        return "\"" + (latestEventId != null ? latestEventId : "empty") + "\"";
+    }
+
+    // If-None-Match uses weak comparison: W/"x" matches "x"
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The claim version an If-Match header asks for: null when absent or "*", otherwise the
+     * version in the strong ETag. Anything else (a weak or foreign tag) can never match.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.trim();
+        if (tag.matches("\"\\d{1,18}\"")) {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        }
+        return -1L;
+    }
+
+    static OrgContext getOrgContext(HttpServletRequest request) {
         OrgContext orgContext = (OrgContext) request.getAttribute(OrgContextFilter.ORG_CONTEXT_ATTRIBUTE);
         if (orgContext == null) {
             throw new IllegalStateException("Organization context not available");
@@ -295,7 +502,7 @@ public class ClaimController {
      * Phase Two hosted Keycloak does not include the standard "sub" claim,
      * so we derive a deterministic UUID from the user's email address.
      */
-    private UUID extractUserId(Jwt jwt) {
+    static UUID extractUserId(Jwt jwt) {
         String sub = jwt.getSubject();
         if (sub != null) {
             return UUID.fromString(sub);
@@ -0,0 +1,79 @@
+package com.poc.claims.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BulkCreateResponse {
+
+    private long created;
+    private long failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<Item> results = new ArrayList<>();
+
+    public BulkCreateResponse() {}
+
+    // Getters and setters
+
+    public long getCreated() { return created; }
+    public void setCreated(long created) { this.created = created; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    public List<Item> getResults() { return results; }
+    public void setResults(List<Item> results) { this.results = results; }
+
+    /**
+     * Outcome for the item at {@code index} in the request body: CREATED with the new id and
+     * claim number, or FAILED with the reason.
+     */
+    public static class Item {
+        private int index;
+        private String status;
+        private UUID id;
+        private String claimNumber;
+        private String error;
+
+        public Item() {}
+
+        public static Item created(int index, UUID id, String claimNumber) {
+            Item item = new Item();
+            item.index = index;
+            item.status = "CREATED";
+            item.id = id;
+            item.claimNumber = claimNumber;
+            return item;
+        }
+
+        public static Item failed(int index, String error) {
+            Item item = new Item();
+            item.index = index;
+            item.status = "FAILED";
+            item.error = error;
+            return item;
+        }
+
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+
+        public String getClaimNumber() { return claimNumber; }
+        public void setClaimNumber(String claimNumber) { this.claimNumber = claimNumber; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
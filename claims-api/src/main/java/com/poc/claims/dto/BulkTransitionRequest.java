@@ -0,0 +1,29 @@
+package com.poc.claims.dto;
+
+import com.poc.claims.model.ClaimStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkTransitionRequest {
+
+    @NotNull(message = "target is required")
+    private ClaimStatus target;
+
+    @NotEmpty(message = "claimIds is required")
+    @Size(max = 500, message = "At most 500 claims can be transitioned at once")
+    private List<UUID> claimIds;
+
+    public BulkTransitionRequest() {}
+
+    // Getters and setters
+
+    public ClaimStatus getTarget() { return target; }
+    public void setTarget(ClaimStatus target) { this.target = target; }
+
+    public List<UUID> getClaimIds() { return claimIds; }
+    public void setClaimIds(List<UUID> claimIds) { this.claimIds = claimIds; }
+}
@@ -0,0 +1,67 @@
+package com.poc.claims.dto;
+
+import com.poc.claims.model.ClaimStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BulkTransitionResponse {
+
+    private ClaimStatus target;
+    private long transitioned;
+    private long failed;
+    private List<Item> results = new ArrayList<>();
+
+    public BulkTransitionResponse() {}
+
+    // Getters and setters
+
+    public ClaimStatus getTarget() { return target; }
+    public void setTarget(ClaimStatus target) { this.target = target; }
+
+    public long getTransitioned() { return transitioned; }
+    public void setTransitioned(long transitioned) { this.transitioned = transitioned; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public List<Item> getResults() { return results; }
+    public void setResults(List<Item> results) { this.results = results; }
+
+    /**
+     * Outcome for one requested id, in request order: TRANSITIONED, or FAILED with the same
+     * reason the single-claim endpoint would give.
+     */
+    public static class Item {
+        private UUID id;
+        private String status;
+        private String error;
+
+        public Item() {}
+
+        public static Item transitioned(UUID id) {
+            Item item = new Item();
+            item.id = id;
+            item.status = "TRANSITIONED";
+            return item;
+        }
+
+        public static Item failed(UUID id, String error) {
+            Item item = new Item();
+            item.id = id;
+            item.status = "FAILED";
+            item.error = error;
+            return item;
+        }
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
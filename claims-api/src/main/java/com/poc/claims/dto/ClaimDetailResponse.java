@@ -0,0 +1,38 @@
+package com.poc.claims.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * A claim together with the parts requested through {@code include}. Parts that were not
+ * requested are left out of the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClaimDetailResponse {
+
+    private ClaimResponse claim;
+    private List<ClaimEventResponse> events;
+    private List<ClaimNoteResponse> notes;
+    private List<ClaimAttachmentResponse> attachments;
+    private RiskSignalResponse riskSignals;
+
+    public ClaimDetailResponse() {}
+
+    // Getters and setters
+
+    public ClaimResponse getClaim() { return claim; }
+    public void setClaim(ClaimResponse claim) { this.claim = claim; }
+
+    public List<ClaimEventResponse> getEvents() { return events; }
+    public void setEvents(List<ClaimEventResponse> events) { this.events = events; }
+
+    public List<ClaimNoteResponse> getNotes() { return notes; }
+    public void setNotes(List<ClaimNoteResponse> notes) { this.notes = notes; }
+
+    public List<ClaimAttachmentResponse> getAttachments() { return attachments; }
+    public void setAttachments(List<ClaimAttachmentResponse> attachments) { this.attachments = attachments; }
+
+    public RiskSignalResponse getRiskSignals() { return riskSignals; }
+    public void setRiskSignals(RiskSignalResponse riskSignals) { this.riskSignals = riskSignals; }
+}
@@ -3,7 +3,6 @@ package com.poc.claims.dto;
 import com.poc.claims.model.Claim;
 import com.poc.claims.model.ClaimStatus;
 import com.poc.claims.model.ClaimType;
-import com.poc.claims.service.PriorityCalculator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -43,11 +42,8 @@ public class ClaimResponse {
         response.setAmount(claim.getAmount());
         response.setCreatedAt(claim.getCreatedAt());
         response.setUpdatedAt(claim.getUpdatedAt());
-
-        PriorityCalculator.PriorityResult pr = PriorityCalculator.calculate(
-                claim.getType(), claim.getAmount(), claim.getFiledDate(), claim.getStatus());
-        response.setPriority(pr.priority());
-        response.setPriorityScore(pr.score());
+        response.setPriority(claim.getPriority());
+        response.setPriorityScore(claim.getPriorityScore());
 
         return response;
     }
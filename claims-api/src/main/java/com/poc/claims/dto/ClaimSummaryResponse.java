@@ -0,0 +1,83 @@
+package com.poc.claims.dto;
+
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * List-view row built straight from a JPQL constructor expression, so the full description
+ * is never read and no managed entity is created.
+ */
+public class ClaimSummaryResponse {
+
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 140;
+
+    private UUID id;
+    private String claimNumber;
+    private ClaimStatus status;
+    private ClaimType type;
+    private BigDecimal amount;
+    private LocalDateTime filedDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String descriptionPreview;
+    private String priority;
+    private int priorityScore;
+
+    public ClaimSummaryResponse() {}
+
+    public ClaimSummaryResponse(UUID id, String claimNumber, ClaimStatus status, ClaimType type,
+                                BigDecimal amount, LocalDateTime filedDate, LocalDateTime createdAt,
+                                LocalDateTime updatedAt, String priority, int priorityScore,
+                                String descriptionPreview) {
+        this.id = id;
+        this.claimNumber = claimNumber;
+        this.status = status;
+        this.type = type;
+        this.amount = amount;
+        this.filedDate = filedDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.priority = priority;
+        this.priorityScore = priorityScore;
+        this.descriptionPreview = descriptionPreview;
+    }
+
+    // Getters and setters
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getClaimNumber() { return claimNumber; }
+    public void setClaimNumber(String claimNumber) { this.claimNumber = claimNumber; }
+
+    public ClaimStatus getStatus() { return status; }
+    public void setStatus(ClaimStatus status) { this.status = status; }
+
+    public ClaimType getType() { return type; }
+    public void setType(ClaimType type) { this.type = type; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public LocalDateTime getFiledDate() { return filedDate; }
+    public void setFiledDate(LocalDateTime filedDate) { this.filedDate = filedDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getDescriptionPreview() { return descriptionPreview; }
+    public void setDescriptionPreview(String descriptionPreview) { this.descriptionPreview = descriptionPreview; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public int getPriorityScore() { return priorityScore; }
+    public void setPriorityScore(int priorityScore) { this.priorityScore = priorityScore; }
+}
@@ -0,0 +1,66 @@
+package com.poc.claims.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class ClaimTimeSeriesResponse {
+
+    private String bucket;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Point> points;
+
+    public ClaimTimeSeriesResponse() {}
+
+    // Getters and setters
+
+    public String getBucket() { return bucket; }
+    public void setBucket(String bucket) { this.bucket = bucket; }
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public List<Point> getPoints() { return points; }
+    public void setPoints(List<Point> points) { this.points = points; }
+
+    public static class Point {
+        private LocalDate bucketStart;
+        private long filedCount;
+        private BigDecimal filedAmount = BigDecimal.ZERO;
+        private long approvedCount;
+        private BigDecimal approvedAmount = BigDecimal.ZERO;
+        private long deniedCount;
+        private BigDecimal deniedAmount = BigDecimal.ZERO;
+
+        public Point() {}
+
+        public Point(LocalDate bucketStart) {
+            this.bucketStart = bucketStart;
+        }
+
+        public LocalDate getBucketStart() { return bucketStart; }
+        public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+
+        public long getFiledCount() { return filedCount; }
+        public void setFiledCount(long filedCount) { this.filedCount = filedCount; }
+
+        public BigDecimal getFiledAmount() { return filedAmount; }
+        public void setFiledAmount(BigDecimal filedAmount) { this.filedAmount = filedAmount; }
+
+        public long getApprovedCount() { return approvedCount; }
+        public void setApprovedCount(long approvedCount) { this.approvedCount = approvedCount; }
+
+        public BigDecimal getApprovedAmount() { return approvedAmount; }
+        public void setApprovedAmount(BigDecimal approvedAmount) { this.approvedAmount = approvedAmount; }
+
+        public long getDeniedCount() { return deniedCount; }
+        public void setDeniedCount(long deniedCount) { this.deniedCount = deniedCount; }
+
+        public BigDecimal getDeniedAmount() { return deniedAmount; }
+        public void setDeniedAmount(BigDecimal deniedAmount) { this.deniedAmount = deniedAmount; }
+    }
+}
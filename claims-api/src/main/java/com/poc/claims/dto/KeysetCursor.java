@@ -0,0 +1,41 @@
+package com.poc.claims.dto;
+
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row a client has seen, ordered by (createdAt, id); for the event timeline
+ * createdAt is the event timestamp. Clients get it as an opaque URL-safe token and hand it back
+ * unchanged to fetch the next page.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    public static KeysetCursor of(Claim claim) {
+        return new KeysetCursor(claim.getCreatedAt(), claim.getId());
+    }
+
+    public static KeysetCursor of(ClaimEvent event) {
+        return new KeysetCursor(event.getTimestamp(), event.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Invalid cursor");
+        }
+    }
+}
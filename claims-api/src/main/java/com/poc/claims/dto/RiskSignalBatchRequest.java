@@ -0,0 +1,19 @@
+package com.poc.claims.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class RiskSignalBatchRequest {
+
+    @NotEmpty(message = "claimIds is required")
+    @Size(max = 100, message = "At most 100 claims can be assessed at once")
+    private List<UUID> claimIds;
+
+    public RiskSignalBatchRequest() {}
+
+    public List<UUID> getClaimIds() { return claimIds; }
+    public void setClaimIds(List<UUID> claimIds) { this.claimIds = claimIds; }
+}
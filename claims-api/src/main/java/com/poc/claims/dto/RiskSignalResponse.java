@@ -1,5 +1,6 @@
 package com.poc.claims.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class RiskSignalResponse {
@@ -7,6 +8,7 @@ public class RiskSignalResponse {
     private String overallRisk;
     private int riskScore;
     private List<Signal> signals;
+    private LocalDateTime computedAt;
 
     public RiskSignalResponse() {}
 
@@ -21,6 +23,9 @@ public class RiskSignalResponse {
     public List<Signal> getSignals() { return signals; }
     public void setSignals(List<Signal> signals) { this.signals = signals; }
 
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+
     public static class Signal {
         private String severity;
         private String label;
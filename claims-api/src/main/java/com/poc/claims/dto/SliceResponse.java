@@ -0,0 +1,57 @@
+package com.poc.claims.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a count-free listing. {@code approximateTotal} is only filled in when the client
+ * asks for it, and comes from maintained counters rather than a COUNT(*) over claims.
+ */
+public class SliceResponse<T> {
+
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+
+    public SliceResponse() {}
+
+    public static <T> SliceResponse<T> fromSlice(Slice<T> slice) {
+        SliceResponse<T> response = new SliceResponse<>();
+        response.setItems(slice.getContent());
+        response.setPage(slice.getNumber());
+        response.setSize(slice.getSize());
+        response.setHasNext(slice.hasNext());
+        return response;
+    }
+
+    public <R> SliceResponse<R> map(Function<? super T, ? extends R> mapper) {
+        SliceResponse<R> response = new SliceResponse<>();
+        response.setItems(items.stream().<R>map(mapper).toList());
+        response.setPage(page);
+        response.setSize(size);
+        response.setHasNext(hasNext);
+        response.setApproximateTotal(approximateTotal);
+        return response;
+    }
+
+    // Getters and setters
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public Long getApproximateTotal() { return approximateTotal; }
+    public void setApproximateTotal(Long approximateTotal) { this.approximateTotal = approximateTotal; }
+}
@@ -42,12 +42,27 @@ public class Claim {
     @Column(name = "amount", precision = 15, scale = 2)
     private BigDecimal amount;
 
+    // Maintained by ClaimService on every mutation and by ClaimPriorityRescoreJob as claims age
+    @Column(name = "priority", nullable = false, length = 10)
+    private String priority = "LOW";
+
+    @Column(name = "priority_score", nullable = false)
+    private int priorityScore;
+
+    @Column(name = "priority_rescore_at")
+    private LocalDateTime priorityRescoreAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock and ETag source; the native UPDATEs in ClaimRepository bump it too
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Claim() {}
 
     @PrePersist
@@ -94,9 +109,21 @@ public class Claim {
     public BigDecimal getAmount() { return amount; }
     public void setAmount(BigDecimal amount) { this.amount = amount; }
 
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public int getPriorityScore() { return priorityScore; }
+    public void setPriorityScore(int priorityScore) { this.priorityScore = priorityScore; }
+
+    public LocalDateTime getPriorityRescoreAt() { return priorityRescoreAt; }
+    public void setPriorityRescoreAt(LocalDateTime priorityRescoreAt) { this.priorityRescoreAt = priorityRescoreAt; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,103 @@
+package com.poc.claims.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Filed / approved / denied totals for one organization and day.
+ * Maintained by ClaimRollupService as claims are created and decided.
+ */
+@Entity
+@Table(name = "claim_daily_rollup")
+@IdClass(ClaimDailyRollup.Key.class)
+public class ClaimDailyRollup {
+
+    @Id
+    @Column(name = "organization_id", nullable = false)
+    private UUID organizationId;
+
+    @Id
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "filed_count", nullable = false)
+    private long filedCount;
+
+    @Column(name = "filed_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal filedAmount;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "approved_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal approvedAmount;
+
+    @Column(name = "denied_count", nullable = false)
+    private long deniedCount;
+
+    @Column(name = "denied_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal deniedAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ClaimDailyRollup() {}
+
+    // Getters and setters
+
+    public UUID getOrganizationId() { return organizationId; }
+    public void setOrganizationId(UUID organizationId) { this.organizationId = organizationId; }
+
+    public LocalDate getBucketDate() { return bucketDate; }
+    public void setBucketDate(LocalDate bucketDate) { this.bucketDate = bucketDate; }
+
+    public long getFiledCount() { return filedCount; }
+    public void setFiledCount(long filedCount) { this.filedCount = filedCount; }
+
+    public BigDecimal getFiledAmount() { return filedAmount; }
+    public void setFiledAmount(BigDecimal filedAmount) { this.filedAmount = filedAmount; }
+
+    public long getApprovedCount() { return approvedCount; }
+    public void setApprovedCount(long approvedCount) { this.approvedCount = approvedCount; }
+
+    public BigDecimal getApprovedAmount() { return approvedAmount; }
+    public void setApprovedAmount(BigDecimal approvedAmount) { this.approvedAmount = approvedAmount; }
+
+    public long getDeniedCount() { return deniedCount; }
+    public void setDeniedCount(long deniedCount) { this.deniedCount = deniedCount; }
+
+    public BigDecimal getDeniedAmount() { return deniedAmount; }
+    public void setDeniedAmount(BigDecimal deniedAmount) { this.deniedAmount = deniedAmount; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public static class Key implements Serializable {
+        private UUID organizationId;
+        private LocalDate bucketDate;
+
+        public Key() {}
+
+        public Key(UUID organizationId, LocalDate bucketDate) {
+            this.organizationId = organizationId;
+            this.bucketDate = bucketDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(organizationId, key.organizationId) && Objects.equals(bucketDate, key.bucketDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(organizationId, bucketDate);
+        }
+    }
+}
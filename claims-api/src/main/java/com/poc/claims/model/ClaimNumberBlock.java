@@ -0,0 +1,28 @@
+package com.poc.claims.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Next unreserved claim number for one year. Advanced a block at a time by ClaimNumberAllocator.
+ */
+@Entity
+@Table(name = "claim_number_blocks")
+public class ClaimNumberBlock {
+
+    @Id
+    @Column(name = "claim_year")
+    private int claimYear;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public ClaimNumberBlock() {}
+
+    // Getters and setters
+
+    public int getClaimYear() { return claimYear; }
+    public void setClaimYear(int claimYear) { this.claimYear = claimYear; }
+
+    public long getNextValue() { return nextValue; }
+    public void setNextValue(long nextValue) { this.nextValue = nextValue; }
+}
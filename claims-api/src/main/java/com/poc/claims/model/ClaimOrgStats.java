@@ -0,0 +1,103 @@
+package com.poc.claims.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Per-organization claim counter for one (status, type) cell.
+ * Maintained by ClaimOrgStatsService in the same transaction as the claim change.
+ */
+@Entity
+@Table(name = "claim_org_stats")
+@IdClass(ClaimOrgStats.Key.class)
+public class ClaimOrgStats {
+
+    @Id
+    @Column(name = "organization_id", nullable = false)
+    private UUID organizationId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ClaimStatus status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private ClaimType type;
+
+    @Column(name = "claim_count", nullable = false)
+    private long claimCount;
+
+    @Column(name = "amount_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amountTotal;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ClaimOrgStats() {}
+
+    public ClaimOrgStats(UUID organizationId, ClaimStatus status, ClaimType type, long claimCount, BigDecimal amountTotal) {
+        this.organizationId = organizationId;
+        this.status = status;
+        this.type = type;
+        this.claimCount = claimCount;
+        this.amountTotal = amountTotal;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and setters
+
+    public UUID getOrganizationId() { return organizationId; }
+    public void setOrganizationId(UUID organizationId) { this.organizationId = organizationId; }
+
+    public ClaimStatus getStatus() { return status; }
+    public void setStatus(ClaimStatus status) { this.status = status; }
+
+    public ClaimType getType() { return type; }
+    public void setType(ClaimType type) { this.type = type; }
+
+    public long getClaimCount() { return claimCount; }
+    public void setClaimCount(long claimCount) { this.claimCount = claimCount; }
+
+    public BigDecimal getAmountTotal() { return amountTotal; }
+    public void setAmountTotal(BigDecimal amountTotal) { this.amountTotal = amountTotal; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public static class Key implements Serializable {
+        private UUID organizationId;
+        private ClaimStatus status;
+        private ClaimType type;
+
+        public Key() {}
+
+        public Key(UUID organizationId, ClaimStatus status, ClaimType type) {
+            this.organizationId = organizationId;
+            this.status = status;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(organizationId, key.organizationId) && status == key.status && type == key.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(organizationId, status, type);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.poc.claims.model;
+
+public enum ClaimPriority {
+    CRITICAL,
+    HIGH,
+    MEDIUM,
+    LOW;
+
+    public static ClaimPriority forScore(int score) {
+        if (score >= 70) {
+            return CRITICAL;
+        } else if (score >= 50) {
+            return HIGH;
+        } else if (score >= 30) {
+            return MEDIUM;
+        }
+        return LOW;
+    }
+}
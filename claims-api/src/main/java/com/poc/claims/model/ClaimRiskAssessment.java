@@ -0,0 +1,55 @@
+package com.poc.claims.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Last computed risk assessment of a claim. Written by ClaimRiskAssessmentService; signals are
+ * stored as the JSON array the API returns.
+ */
+@Entity
+@Table(name = "claim_risk_assessments")
+public class ClaimRiskAssessment {
+
+    @Id
+    @Column(name = "claim_id")
+    private UUID claimId;
+
+    @Column(name = "organization_id", nullable = false)
+    private UUID organizationId;
+
+    @Column(name = "overall_risk", nullable = false, length = 10)
+    private String overallRisk;
+
+    @Column(name = "risk_score", nullable = false)
+    private int riskScore;
+
+    @Column(name = "signals", nullable = false, columnDefinition = "TEXT")
+    private String signals;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public ClaimRiskAssessment() {}
+
+    // Getters and setters
+
+    public UUID getClaimId() { return claimId; }
+    public void setClaimId(UUID claimId) { this.claimId = claimId; }
+
+    public UUID getOrganizationId() { return organizationId; }
+    public void setOrganizationId(UUID organizationId) { this.organizationId = organizationId; }
+
+    public String getOverallRisk() { return overallRisk; }
+    public void setOverallRisk(String overallRisk) { this.overallRisk = overallRisk; }
+
+    public int getRiskScore() { return riskScore; }
+    public void setRiskScore(int riskScore) { this.riskScore = riskScore; }
+
+    public String getSignals() { return signals; }
+    public void setSignals(String signals) { this.signals = signals; }
+
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+}
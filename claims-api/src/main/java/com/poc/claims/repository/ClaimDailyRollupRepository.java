@@ -0,0 +1,40 @@
+package com.poc.claims.repository;
+
+import com.poc.claims.model.ClaimDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ClaimDailyRollupRepository extends JpaRepository<ClaimDailyRollup, ClaimDailyRollup.Key> {
+
+    List<ClaimDailyRollup> findByOrganizationIdAndBucketDateBetweenOrderByBucketDateAsc(
+            UUID organizationId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO claim_daily_rollup (organization_id, bucket_date, filed_count, filed_amount, " +
+                   "approved_count, approved_amount, denied_count, denied_amount, updated_at) " +
+                   "VALUES (:orgId, :day, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("orgId") UUID orgId, @Param("day") LocalDate day);
+
+    @Modifying
+    @Query("UPDATE ClaimDailyRollup r SET " +
+           "r.filedCount = r.filedCount + :filedCount, r.filedAmount = r.filedAmount + :filedAmount, " +
+           "r.approvedCount = r.approvedCount + :approvedCount, r.approvedAmount = r.approvedAmount + :approvedAmount, " +
+           "r.deniedCount = r.deniedCount + :deniedCount, r.deniedAmount = r.deniedAmount + :deniedAmount, " +
+           "r.updatedAt = :now " +
+           "WHERE r.organizationId = :orgId AND r.bucketDate = :day")
+    int applyDelta(@Param("orgId") UUID orgId, @Param("day") LocalDate day,
+                   @Param("filedCount") long filedCount, @Param("filedAmount") BigDecimal filedAmount,
+                   @Param("approvedCount") long approvedCount, @Param("approvedAmount") BigDecimal approvedAmount,
+                   @Param("deniedCount") long deniedCount, @Param("deniedAmount") BigDecimal deniedAmount,
+                   @Param("now") LocalDateTime now);
+}
@@ -1,14 +1,44 @@
 package com.poc.claims.repository;
 
 import com.poc.claims.model.ClaimEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ClaimEventRepository extends JpaRepository<ClaimEvent, UUID> {
 
-    List<ClaimEvent> findByClaimIdOrderByTimestampAsc(UUID claimId);
+    List<ClaimEvent> findByClaimIdOrderByTimestampAscIdAsc(UUID claimId);
+
+    // Id of the newest event, read from idx_claim_events_claim_ts_id alone. Events are append-only,
+    // so it changes exactly when the timeline does.
+    @Query("SELECT e.id FROM ClaimEvent e WHERE e.claimId = :claimId ORDER BY e.timestamp DESC, e.id DESC")
+    List<UUID> findLatestIds(@Param("claimId") UUID claimId, Pageable limit);
+
+    // Timeline keyset pagination on (timestamp, id), served by idx_claim_events_claim_ts_id in
+    // either direction. Pageable only carries the limit, as in ClaimRepository's keyset queries.
+
+    @Query("SELECT e FROM ClaimEvent e WHERE e.claimId = :claimId ORDER BY e.timestamp ASC, e.id ASC")
+    List<ClaimEvent> findTimelineFirstAsc(@Param("claimId") UUID claimId, Pageable limit);
+
+    @Query("SELECT e FROM ClaimEvent e WHERE e.claimId = :claimId" +
+           " AND (e.timestamp, e.id) > (:timestamp, :id)" +
+           " ORDER BY e.timestamp ASC, e.id ASC")
+    List<ClaimEvent> findTimelineAfterAsc(@Param("claimId") UUID claimId, @Param("timestamp") LocalDateTime timestamp,
+                                          @Param("id") UUID id, Pageable limit);
+
+    @Query("SELECT e FROM ClaimEvent e WHERE e.claimId = :claimId ORDER BY e.timestamp DESC, e.id DESC")
+    List<ClaimEvent> findTimelineFirstDesc(@Param("claimId") UUID claimId, Pageable limit);
+
+    @Query("SELECT e FROM ClaimEvent e WHERE e.claimId = :claimId" +
+           " AND (e.timestamp, e.id) < (:timestamp, :id)" +
+           " ORDER BY e.timestamp DESC, e.id DESC")
+    List<ClaimEvent> findTimelineAfterDesc(@Param("claimId") UUID claimId, @Param("timestamp") LocalDateTime timestamp,
+                                           @Param("id") UUID id, Pageable limit);
 }
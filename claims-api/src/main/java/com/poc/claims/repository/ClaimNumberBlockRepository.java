@@ -0,0 +1,28 @@
+package com.poc.claims.repository;
+
+import com.poc.claims.model.ClaimNumberBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClaimNumberBlockRepository extends JpaRepository<ClaimNumberBlock, Integer> {
+
+    @Modifying
+    @Query(value = "INSERT INTO claim_number_blocks (claim_year, next_value) VALUES (:year, 1) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("year") int year);
+
+    /**
+     * Moves the year's counter past a block of {@code blockSize} numbers. The row stays locked until
+     * the transaction ends, so read the new value with {@link #findNextValue} in the same one.
+     */
+    @Modifying
+    @Query("UPDATE ClaimNumberBlock b SET b.nextValue = b.nextValue + :blockSize WHERE b.claimYear = :year")
+    int advance(@Param("year") int year, @Param("blockSize") int blockSize);
+
+    @Query("SELECT b.nextValue FROM ClaimNumberBlock b WHERE b.claimYear = :year")
+    long findNextValue(@Param("year") int year);
+}
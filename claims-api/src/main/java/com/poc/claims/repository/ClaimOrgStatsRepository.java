@@ -0,0 +1,43 @@
+package com.poc.claims.repository;
+
+import com.poc.claims.model.ClaimOrgStats;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ClaimOrgStatsRepository extends JpaRepository<ClaimOrgStats, ClaimOrgStats.Key> {
+
+    List<ClaimOrgStats> findByOrganizationId(UUID organizationId);
+
+    @Modifying
+    @Query(value = "INSERT INTO claim_org_stats (organization_id, status, type, claim_count, amount_total, updated_at) " +
+                   "VALUES (:orgId, :status, :type, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("orgId") UUID orgId, @Param("status") String status, @Param("type") String type);
+
+    @Modifying
+    @Query("UPDATE ClaimOrgStats s SET s.claimCount = s.claimCount + :countDelta, " +
+           "s.amountTotal = s.amountTotal + :amountDelta, s.updatedAt = :now " +
+           "WHERE s.organizationId = :orgId AND s.status = :status AND s.type = :type")
+    int applyDelta(@Param("orgId") UUID orgId, @Param("status") ClaimStatus status, @Param("type") ClaimType type,
+                   @Param("countDelta") long countDelta, @Param("amountDelta") BigDecimal amountDelta,
+                   @Param("now") LocalDateTime now);
+
+    // Row lock on one counter cell; held until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ClaimOrgStats s WHERE s.organizationId = :orgId AND s.status = :status AND s.type = :type")
+    Optional<ClaimOrgStats> lockCell(@Param("orgId") UUID orgId, @Param("status") ClaimStatus status,
+                                     @Param("type") ClaimType type);
+}
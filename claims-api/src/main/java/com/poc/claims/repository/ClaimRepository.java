@@ -1,50 +1,279 @@
 package com.poc.claims.repository;
 
+import com.poc.claims.dto.ClaimSummaryResponse;
 import com.poc.claims.model.Claim;
 import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClaimRepository extends JpaRepository<Claim, UUID> {
 
+    /**
+     * SQL mirror of PriorityCalculator's score, used by the rescoring job. Age thresholds are bound
+     * as cutoff timestamps (see PriorityCalculator.ageCutoff) so both sides agree on "now". Keep the
+     * two in lockstep; PriorityCalculatorParityTest compares them.
+     */
+    String PRIORITY_BASE_SCORE_SQL =
+            "(CASE WHEN c.amount >= 100000 THEN 40 WHEN c.amount >= 50000 THEN 30" +
+            " WHEN c.amount >= 10000 THEN 20 WHEN c.amount >= 1000 THEN 10 ELSE 0 END)" +
+            " + (CASE c.type WHEN 'LIABILITY' THEN 20 WHEN 'PROPERTY' THEN 15" +
+            " WHEN 'HEALTH' THEN 10 WHEN 'AUTO' THEN 5 ELSE 0 END)" +
+            " + (CASE WHEN c.filed_date <= :olderThan30 THEN 20 WHEN c.filed_date <= :olderThan14 THEN 10" +
+            " WHEN c.filed_date <= :olderThan7 THEN 5 ELSE 0 END)";
+
+    String PRIORITY_SCORE_SQL =
+            PRIORITY_BASE_SCORE_SQL + " + (CASE WHEN c.status IN ('SUBMITTED', 'UNDER_REVIEW') THEN 10 ELSE 0 END)";
+
+    /** PriorityCalculator.priorityForScore over PRIORITY_SCORE_SQL. */
+    String PRIORITY_LABEL_SQL =
+            "(CASE WHEN (" + PRIORITY_SCORE_SQL + ") >= 70 THEN 'CRITICAL'" +
+            " WHEN (" + PRIORITY_SCORE_SQL + ") >= 50 THEN 'HIGH'" +
+            " WHEN (" + PRIORITY_SCORE_SQL + ") >= 30 THEN 'MEDIUM' ELSE 'LOW' END)";
+
+    /**
+     * PRIORITY_SCORE_SQL for rows that all move to one status. SET expressions see the old status,
+     * so the status term is bound as :statusBoost (PriorityCalculator.statusBoost of the target).
+     */
+    String TRANSITION_SCORE_SQL = "(" + PRIORITY_BASE_SCORE_SQL + " + :statusBoost)";
+
+    /** PriorityCalculator.nextRescoreAt over the same cutoffs: the next age threshold the claim crosses. */
+    String RESCORE_AT_SQL =
+            "(CASE WHEN c.filed_date IS NULL THEN NULL" +
+            " WHEN c.filed_date > :olderThan7 THEN c.filed_date + INTERVAL '8' DAY" +
+            " WHEN c.filed_date > :olderThan14 THEN c.filed_date + INTERVAL '15' DAY" +
+            " WHEN c.filed_date > :olderThan30 THEN c.filed_date + INTERVAL '31' DAY" +
+            " ELSE NULL END)";
+
+    String TRANSITION_LABEL_SQL =
+            "(CASE WHEN " + TRANSITION_SCORE_SQL + " >= 70 THEN 'CRITICAL'" +
+            " WHEN " + TRANSITION_SCORE_SQL + " >= 50 THEN 'HIGH'" +
+            " WHEN " + TRANSITION_SCORE_SQL + " >= 30 THEN 'MEDIUM' ELSE 'LOW' END)";
+
     Page<Claim> findByOrganizationId(UUID organizationId, Pageable pageable);
 
     Page<Claim> findByOrganizationIdAndStatus(UUID organizationId, ClaimStatus status, Pageable pageable);
 
+    // Summary list view: only the list columns plus the first 140 characters of the description
+    String SUMMARY_SELECT = "SELECT new com.poc.claims.dto.ClaimSummaryResponse(" +
+            "c.id, c.claimNumber, c.status, c.type, c.amount, c.filedDate, c.createdAt, c.updatedAt," +
+            " c.priority, c.priorityScore," +
+            " SUBSTRING(c.description, 1, " + ClaimSummaryResponse.DESCRIPTION_PREVIEW_LENGTH + "))" +
+            " FROM Claim c";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SUMMARY_SELECT + " WHERE c.organizationId = :orgId",
+           countQuery = "SELECT COUNT(c) FROM Claim c WHERE c.organizationId = :orgId")
+    Page<ClaimSummaryResponse> findSummariesByOrganizationId(@Param("orgId") UUID orgId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SUMMARY_SELECT + " WHERE c.organizationId = :orgId AND c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Claim c WHERE c.organizationId = :orgId AND c.status = :status")
+    Page<ClaimSummaryResponse> findSummariesByOrganizationIdAndStatus(@Param("orgId") UUID orgId,
+                                                                      @Param("status") ClaimStatus status,
+                                                                      Pageable pageable);
+
+    // Slice variants fetch size + 1 rows to compute hasNext and never issue a COUNT query
+    Slice<Claim> findSliceByOrganizationId(UUID organizationId, Pageable pageable);
+
+    Slice<Claim> findSliceByOrganizationIdAndStatus(UUID organizationId, ClaimStatus status, Pageable pageable);
+
+    // Keyset pagination, newest first. Pageable only carries the row limit; returning a List
+    // keeps Spring Data from issuing a COUNT query.
+
+    @Query("SELECT c FROM Claim c WHERE c.organizationId = :orgId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Claim> findKeysetFirst(@Param("orgId") UUID orgId, Pageable limit);
+
+    @Query("SELECT c FROM Claim c WHERE c.organizationId = :orgId" +
+           " AND (c.createdAt, c.id) < (:createdAt, :id)" +
+           " ORDER BY c.createdAt DESC, c.id DESC")
+    List<Claim> findKeysetAfter(@Param("orgId") UUID orgId, @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") UUID id, Pageable limit);
+
+    @Query("SELECT c FROM Claim c WHERE c.organizationId = :orgId AND c.status = :status" +
+           " ORDER BY c.createdAt DESC, c.id DESC")
+    List<Claim> findKeysetFirstByStatus(@Param("orgId") UUID orgId, @Param("status") ClaimStatus status,
+                                        Pageable limit);
+
+    @Query("SELECT c FROM Claim c WHERE c.organizationId = :orgId AND c.status = :status" +
+           " AND (c.createdAt, c.id) < (:createdAt, :id)" +
+           " ORDER BY c.createdAt DESC, c.id DESC")
+    List<Claim> findKeysetAfterByStatus(@Param("orgId") UUID orgId, @Param("status") ClaimStatus status,
+                                        @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                        Pageable limit);
+
     Optional<Claim> findByIdAndOrganizationId(UUID id, UUID organizationId);
 
-    @Query("SELECT COUNT(c) FROM Claim c WHERE c.claimNumber LIKE :prefix%")
-    long countByClaimNumberPrefix(@Param("prefix") String prefix);
+    // Ownership checks only need the org, not the row; served from the primary key index
+    @Query("SELECT c.organizationId FROM Claim c WHERE c.id = :id")
+    Optional<UUID> findOrganizationIdById(@Param("id") UUID id);
 
-    // Stats queries
-    long countByOrganizationId(UUID organizationId);
+    // Conditional GETs compare against the version without loading the claim
+    @Query("SELECT c.version FROM Claim c WHERE c.id = :id AND c.organizationId = :orgId")
+    Optional<Long> findVersionByIdAndOrganizationId(@Param("id") UUID id, @Param("orgId") UUID orgId);
 
-    long countByOrganizationIdAndStatus(UUID organizationId, ClaimStatus status);
+    // Stats queries
 
-    @Query("SELECT COALESCE(SUM(c.amount), 0) FROM Claim c WHERE c.organizationId = :orgId AND c.status NOT IN :excludedStatuses")
-    BigDecimal sumAmountByOrganizationIdAndStatusNotIn(@Param("orgId") UUID orgId, @Param("excludedStatuses") List<ClaimStatus> excludedStatuses);
+    /**
+     * One row per (status, type) present in the org, carrying the claim count, the amount
+     * total and how many were created after the cutoff. Source of truth for the stats counters.
+     */
+    @Query("SELECT c.status AS status, c.type AS type, COUNT(c) AS claimCount, " +
+           "COALESCE(SUM(c.amount), 0) AS amountTotal, " +
+           "SUM(CASE WHEN c.createdAt > :createdAfter THEN 1 ELSE 0 END) AS createdAfterCount " +
+           "FROM Claim c WHERE c.organizationId = :orgId GROUP BY c.status, c.type")
+    List<StatusTypeAggregate> aggregateByStatusAndType(@Param("orgId") UUID orgId, @Param("createdAfter") LocalDateTime createdAfter);
 
     long countByOrganizationIdAndCreatedAtAfter(UUID organizationId, LocalDateTime after);
 
-    // Risk signal queries
-    long countByUserIdAndOrganizationIdAndCreatedAtAfter(UUID userId, UUID organizationId, LocalDateTime after);
+    /**
+     * Priority distribution from the persisted priority column: [priority, count] rows for the org.
+     */
+    @Query("SELECT c.priority, COUNT(c) FROM Claim c WHERE c.organizationId = :orgId GROUP BY c.priority")
+    List<Object[]> countByPriority(@Param("orgId") UUID orgId);
+
+    /**
+     * Re-scores up to {@code batchSize} claims whose age has crossed a threshold since they were
+     * last scored, and schedules their next crossing. Returns the number of claims updated.
+     */
+    @Modifying
+    @Query(value = "UPDATE claims c SET" +
+                   " priority_score = " + PRIORITY_SCORE_SQL + "," +
+                   " priority = " + PRIORITY_LABEL_SQL + "," +
+                   " priority_rescore_at = " + RESCORE_AT_SQL + "," +
+                   " version = c.version + 1" +
+                   " WHERE c.id IN (SELECT d.id FROM claims d WHERE d.priority_rescore_at <= :now" +
+                   " ORDER BY d.priority_rescore_at LIMIT :batchSize)", nativeQuery = true)
+    int rescoreDue(@Param("now") LocalDateTime now,
+                   @Param("olderThan7") LocalDateTime olderThan7,
+                   @Param("olderThan14") LocalDateTime olderThan14,
+                   @Param("olderThan30") LocalDateTime olderThan30,
+                   @Param("batchSize") int batchSize);
+
+    /**
+     * Current [id, status, type, amount] of the org's claims among {@code ids}, locked until the
+     * transaction ends so a bulk transition validates and updates the same state. Rows are locked
+     * in id order, so bulk transitions over overlapping ids queue up instead of deadlocking.
+     */
+    @Query(value = "SELECT c.id, c.status, c.type, c.amount FROM claims c" +
+                   " WHERE c.organization_id = :orgId AND c.id IN (:ids) ORDER BY c.id FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockForTransition(@Param("orgId") UUID orgId, @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Moves the given claims to {@code status} and re-scores them in one statement. The caller
+     * has already checked their source states under lockForTransition.
+     */
+    @Modifying
+    @Query(value = "UPDATE claims c SET status = :status," +
+                   " priority_score = " + TRANSITION_SCORE_SQL + "," +
+                   " priority = " + TRANSITION_LABEL_SQL + "," +
+                   " updated_at = :now," +
+                   " version = c.version + 1" +
+                   " WHERE c.organization_id = :orgId AND c.id IN (:ids)", nativeQuery = true)
+    int applyTransition(@Param("orgId") UUID orgId, @Param("ids") Collection<UUID> ids,
+                        @Param("status") String status, @Param("statusBoost") int statusBoost,
+                        @Param("now") LocalDateTime now,
+                        @Param("olderThan7") LocalDateTime olderThan7,
+                        @Param("olderThan14") LocalDateTime olderThan14,
+                        @Param("olderThan30") LocalDateTime olderThan30);
+
+    /**
+     * Compare-and-set for a single transition: moves the claim to {@code toStatus} and re-scores it,
+     * only while it is in {@code fromStatus} and, unless {@code anyOwner}, belongs to
+     * {@code userId}. Returns 0 when any of that does not hold (including a missing claim), so the
+     * preconditions are checked by the same statement that writes. Clears the persistence context
+     * so the claim read afterwards is the updated row.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE claims c SET status = :toStatus," +
+                   " priority_score = " + TRANSITION_SCORE_SQL + "," +
+                   " priority = " + TRANSITION_LABEL_SQL + "," +
+                   " priority_rescore_at = " + RESCORE_AT_SQL + "," +
+                   " updated_at = :now," +
+                   " version = c.version + 1" +
+                   " WHERE c.id = :id AND c.organization_id = :orgId AND c.status = :fromStatus" +
+                   " AND (:anyOwner = TRUE OR c.user_id = :userId)", nativeQuery = true)
+    int compareAndSetStatus(@Param("id") UUID id, @Param("orgId") UUID orgId,
+                            @Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus,
+                            @Param("statusBoost") int statusBoost,
+                            @Param("anyOwner") boolean anyOwner, @Param("userId") UUID userId,
+                            @Param("now") LocalDateTime now,
+                            @Param("olderThan7") LocalDateTime olderThan7,
+                            @Param("olderThan14") LocalDateTime olderThan14,
+                            @Param("olderThan30") LocalDateTime olderThan30);
+
+    /**
+     * Why a compare-and-set transition matched no row: only the columns its preconditions test.
+     */
+    @Query("SELECT c.status AS status, c.userId AS userId FROM Claim c WHERE c.id = :id AND c.organizationId = :orgId")
+    Optional<TransitionState> findTransitionStateByIdAndOrganizationId(@Param("id") UUID id, @Param("orgId") UUID orgId);
+
+    /**
+     * Everything RiskSignalService needs for the given claims, in one round trip: one row per claim
+     * of the org as [id, amount, incident_date, filed_date, type_avg_amount, recent_user_claims,
+     * total_user_claims]. Type averages and user counts are aggregated once per distinct type and
+     * user in the batch, not once per claim. Ids outside the org produce no row.
+     */
+    @Query(value = "WITH target AS (" +
+                   " SELECT c.id, c.user_id, c.type, c.amount, c.incident_date, c.filed_date FROM claims c" +
+                   " WHERE c.organization_id = :orgId AND c.id IN (:ids))," +
+                   " type_avg AS (" +
+                   " SELECT a.type, AVG(a.amount) AS avg_amount FROM claims a" +
+                   " WHERE a.organization_id = :orgId AND a.type IN (SELECT t.type FROM target t)" +
+                   " GROUP BY a.type)," +
+                   " user_counts AS (" +
+                   " SELECT u.user_id, COUNT(*) AS total_claims," +
+                   " SUM(CASE WHEN u.created_at > :recentSince THEN 1 ELSE 0 END) AS recent_claims" +
+                   " FROM claims u" +
+                   " WHERE u.organization_id = :orgId AND u.user_id IN (SELECT t.user_id FROM target t)" +
+                   " GROUP BY u.user_id)" +
+                   " SELECT t.id, t.amount, t.incident_date, t.filed_date, ta.avg_amount," +
+                   " COALESCE(uc.recent_claims, 0), COALESCE(uc.total_claims, 0)" +
+                   " FROM target t" +
+                   " LEFT JOIN type_avg ta ON ta.type = t.type" +
+                   " LEFT JOIN user_counts uc ON uc.user_id = t.user_id", nativeQuery = true)
+    List<Object[]> findRiskInputs(@Param("orgId") UUID orgId,
+                                  @Param("ids") Collection<UUID> ids,
+                                  @Param("recentSince") LocalDateTime recentSince);
 
-    long countByUserIdAndOrganizationId(UUID userId, UUID organizationId);
+    // For export: rows arrive from a server-side cursor in fetch-size chunks instead of one big list.
+    // The caller must consume the stream inside a transaction and close it.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c FROM Claim c WHERE c.organizationId = :orgId ORDER BY c.createdAt, c.id")
+    Stream<Claim> streamByOrganizationId(@Param("orgId") UUID orgId);
 
-    @Query(value = "SELECT AVG(c.amount) FROM claims c WHERE c.organization_id = :orgId AND c.type = :claimType", nativeQuery = true)
-    BigDecimal findAverageAmountByOrganizationIdAndType(@Param("orgId") UUID orgId, @Param("claimType") String claimType);
+    interface TransitionState {
+        ClaimStatus getStatus();
+        UUID getUserId();
+    }
 
-    // For export
-    List<Claim> findByOrganizationId(UUID organizationId);
+    interface StatusTypeAggregate {
+        ClaimStatus getStatus();
+        ClaimType getType();
+        Long getClaimCount();
+        BigDecimal getAmountTotal();
+        Long getCreatedAfterCount();
+    }
 }
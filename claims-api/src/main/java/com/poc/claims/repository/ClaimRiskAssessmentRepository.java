@@ -0,0 +1,52 @@
+package com.poc.claims.repository;
+
+import com.poc.claims.model.ClaimRiskAssessment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ClaimRiskAssessmentRepository extends JpaRepository<ClaimRiskAssessment, UUID> {
+
+    Optional<ClaimRiskAssessment> findByClaimIdAndOrganizationId(UUID claimId, UUID organizationId);
+
+    List<ClaimRiskAssessment> findByOrganizationIdAndClaimIdIn(UUID organizationId, Collection<UUID> claimIds);
+
+    /**
+     * Overwrites the stored assessment unless a newer one is already there, so a slow refresh
+     * cannot replace the result of a later computation. Returns 0 when no row was changed.
+     */
+    @Modifying
+    @Query("UPDATE ClaimRiskAssessment a SET a.overallRisk = :overallRisk, a.riskScore = :riskScore, " +
+           "a.signals = :signals, a.computedAt = :computedAt " +
+           "WHERE a.claimId = :claimId AND a.computedAt <= :computedAt")
+    int updateIfNotNewer(@Param("claimId") UUID claimId, @Param("overallRisk") String overallRisk,
+                         @Param("riskScore") int riskScore, @Param("signals") String signals,
+                         @Param("computedAt") LocalDateTime computedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO claim_risk_assessments (claim_id, organization_id, overall_risk, risk_score, signals, computed_at) " +
+                   "VALUES (:claimId, :orgId, :overallRisk, :riskScore, :signals, :computedAt) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("claimId") UUID claimId, @Param("orgId") UUID orgId,
+                       @Param("overallRisk") String overallRisk, @Param("riskScore") int riskScore,
+                       @Param("signals") String signals, @Param("computedAt") LocalDateTime computedAt);
+
+    /**
+     * Assessed claims of the org whose inputs depend on the given user's claim counts or on the
+     * given type's average amount.
+     */
+    @Query(value = "SELECT a.claim_id FROM claim_risk_assessments a JOIN claims c ON c.id = a.claim_id " +
+                   "WHERE c.organization_id = :orgId AND (c.user_id = :userId OR c.type = :claimType)",
+           nativeQuery = true)
+    List<UUID> findClaimIdsSharingInputs(@Param("orgId") UUID orgId, @Param("userId") UUID userId,
+                                         @Param("claimType") String claimType);
+}
@@ -3,7 +3,6 @@ package com.poc.claims.service;
 import com.poc.claims.config.OrgContext;
 import com.poc.claims.model.ClaimAttachment;
 import com.poc.claims.repository.ClaimAttachmentRepository;
-import com.poc.claims.repository.ClaimRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,17 +13,16 @@ import java.util.UUID;
 public class ClaimAttachmentService {
 
     private final ClaimAttachmentRepository claimAttachmentRepository;
-    private final ClaimRepository claimRepository;
+    private final ClaimOwnershipCache claimOwnershipCache;
 
-    public ClaimAttachmentService(ClaimAttachmentRepository claimAttachmentRepository, ClaimRepository claimRepository) {
+    public ClaimAttachmentService(ClaimAttachmentRepository claimAttachmentRepository, ClaimOwnershipCache claimOwnershipCache) {
         this.claimAttachmentRepository = claimAttachmentRepository;
-        this.claimRepository = claimRepository;
+        this.claimOwnershipCache = claimOwnershipCache;
     }
 
     @Transactional(readOnly = true)
     public List<ClaimAttachment> getAttachments(UUID claimId, OrgContext orgContext) {
-        claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
-                .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
         return claimAttachmentRepository.findByClaimIdOrderByCreatedAtDesc(claimId);
     }
 
@@ -32,8 +30,7 @@ public class ClaimAttachmentService {
     public ClaimAttachment addAttachment(UUID claimId, UUID userId, String displayName,
                                           String filename, long fileSizeBytes, String mimeType,
                                           OrgContext orgContext) {
-        claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
-                .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
 
         ClaimAttachment attachment = new ClaimAttachment();
         attachment.setClaimId(claimId);
@@ -47,8 +44,7 @@ public class ClaimAttachmentService {
 
     @Transactional
     public void deleteAttachment(UUID claimId, UUID attachmentId, OrgContext orgContext) {
-        claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
-                .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
         ClaimAttachment attachment = claimAttachmentRepository.findByIdAndClaimId(attachmentId, claimId)
                 .orElseThrow(() -> new IllegalArgumentException("Attachment not found"));
         claimAttachmentRepository.delete(attachment);
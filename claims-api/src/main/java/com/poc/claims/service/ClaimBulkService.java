@@ -0,0 +1,340 @@
+package com.poc.claims.service;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.poc.claims.config.OrgContext;
+import com.poc.claims.dto.BulkCreateResponse;
+import com.poc.claims.dto.BulkCreateResponse.Item;
+import com.poc.claims.dto.BulkTransitionResponse;
+import com.poc.claims.dto.CreateClaimRequest;
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimEvent;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import com.poc.claims.model.EventType;
+import com.poc.claims.repository.ClaimRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Collection-level claim writes.
+ *
+ * Bulk create reads a JSON array or NDJSON body without holding the whole body in memory:
+ * - Items are read one at a time and written in chunks of {@link #CHUNK_SIZE}, one transaction
+ *   per chunk. Ids are assigned up front and claim numbers come from one reserved block per
+ *   chunk, so the inserts go out as JDBC batches (hibernate.jdbc.batch_size).
+ * - Org counters and daily rollups get one delta per cell per chunk instead of one per claim.
+ * - An invalid item fails on its own; a chunk that cannot be written fails as a whole. Chunks
+ *   already committed stay committed.
+ *
+ * Bulk transition moves a set of claims to one status with a fixed number of statements: one
+ * locking read to check source states, one UPDATE, batched event inserts and one delta per
+ * counter cell.
+ */
+@Service
+public class ClaimBulkService {
+
+    static final int CHUNK_SIZE = 500;
+
+    public static final int MAX_ITEMS = 50_000;
+
+    private final EntityManager entityManager;
+    private final ClaimRepository claimRepository;
+    private final ClaimEventWriter claimEventWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ClaimNumberAllocator claimNumberAllocator;
+    private final ClaimOrgStatsService claimOrgStatsService;
+    private final ClaimRollupService claimRollupService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader requestReader;
+
+    public ClaimBulkService(EntityManager entityManager,
+                            ClaimRepository claimRepository,
+                            ClaimEventWriter claimEventWriter,
+                            TransactionTemplate transactionTemplate,
+                            ClaimNumberAllocator claimNumberAllocator,
+                            ClaimOrgStatsService claimOrgStatsService,
+                            ClaimRollupService claimRollupService,
+                            Validator validator,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.claimRepository = claimRepository;
+        this.claimEventWriter = claimEventWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.claimNumberAllocator = claimNumberAllocator;
+        this.claimOrgStatsService = claimOrgStatsService;
+        this.claimRollupService = claimRollupService;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.requestReader = objectMapper.readerFor(CreateClaimRequest.class);
+    }
+
+    /**
+     * Reads CreateClaimRequest items from {@code body}, either a JSON array or one object per
+     * line, and creates them. Results are reported per item, by position in the body.
+     */
+    public BulkCreateResponse createClaims(InputStream body, UUID userId, OrgContext orgContext) throws IOException {
+        if (!orgContext.isAdmin()) {
+            throw new SecurityException("Only admins can create claims");
+        }
+
+        long start = System.nanoTime();
+        BulkCreateResponse response = new BulkCreateResponse();
+        List<Item> results = response.getResults();
+        List<Pending> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        int index = 0;
+        try (MappingIterator<CreateClaimRequest> items = requestReader.readValues(body)) {
+            while (items.hasNextValue()) {
+                if (index == MAX_ITEMS) {
+                    results.add(Item.failed(index, "Too many items; at most " + MAX_ITEMS + " are accepted per request"));
+                    break;
+                }
+                CreateClaimRequest request;
+                try {
+                    request = items.nextValue();
+                } catch (StreamReadException e) {
+                    results.add(Item.failed(index, "Malformed JSON: " + e.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException e) {
+                    // The iterator skips past the bad item on the next hasNextValue()
+                    results.add(Item.failed(index++, "Invalid claim: " + e.getOriginalMessage()));
+                    continue;
+                }
+
+                if (request == null) {
+                    results.add(Item.failed(index++, "Item must be a claim object"));
+                    continue;
+                }
+                String violations = validate(request);
+                if (violations != null) {
+                    results.add(Item.failed(index++, violations));
+                    continue;
+                }
+                chunk.add(new Pending(index++, request));
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, userId, orgContext.getOrganizationId(), results);
+                    chunk.clear();
+                }
+            }
+        } catch (StreamReadException e) {
+            results.add(Item.failed(index, "Malformed JSON: " + e.getOriginalMessage()));
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, userId, orgContext.getOrganizationId(), results);
+        }
+
+        results.sort(Comparator.comparingInt(Item::getIndex));
+        long created = results.stream().filter(item -> item.getId() != null).count();
+        long elapsedNanos = System.nanoTime() - start;
+        response.setCreated(created);
+        response.setFailed(results.size() - created);
+        response.setElapsedMillis(elapsedNanos / 1_000_000);
+        response.setRowsPerSecond(elapsedNanos > 0 ? created * 1_000_000_000.0 / elapsedNanos : 0);
+        return response;
+    }
+
+    private void writeChunk(List<Pending> chunk, UUID userId, UUID orgId, List<Item> results) {
+        List<String> claimNumbers = claimNumberAllocator.nextBlock(chunk.size());
+        LocalDateTime now = LocalDateTime.now();
+        // Every claim in the chunk is filed at "now": one Scorer and one rescore instant serve them all
+        PriorityCalculator.Scorer scorer = PriorityCalculator.scorer(now);
+        LocalDateTime rescoreAt = PriorityCalculator.nextRescoreAt(now, now);
+        List<Claim> claims = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateClaimRequest request = chunk.get(i).request();
+            Claim claim = new Claim();
+            claim.setId(UUID.randomUUID());
+            claim.setClaimNumber(claimNumbers.get(i));
+            claim.setUserId(userId);
+            claim.setOrganizationId(orgId);
+            claim.setStatus(ClaimStatus.DRAFT);
+            claim.setType(request.getType());
+            claim.setDescription(request.getDescription());
+            claim.setIncidentDate(request.getIncidentDate());
+            claim.setAmount(request.getAmount());
+            claim.setFiledDate(now);
+            int score = scorer.score(claim.getType(), claim.getAmount(), now, ClaimStatus.DRAFT);
+            claim.setPriorityScore(score);
+            claim.setPriority(PriorityCalculator.priorityForScore(score));
+            claim.setPriorityRescoreAt(rescoreAt);
+            claims.add(claim);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // persist, not merge: the ids are assigned, and merge would SELECT each one first
+                for (Claim claim : claims) {
+                    entityManager.persist(claim);
+                }
+                for (Claim claim : claims) {
+                    ClaimEvent event = new ClaimEvent();
+                    event.setClaimId(claim.getId());
+                    event.setActorUserId(userId);
+                    event.setEventType(EventType.CREATED);
+                    event.setNote("Claim created");
+                    claimEventWriter.append(event);
+                }
+                claimOrgStatsService.recordCreated(orgId, claims);
+                claimRollupService.recordFiled(orgId, claims);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            for (Pending pending : chunk) {
+                results.add(Item.failed(pending.index(), "Chunk could not be written"));
+            }
+            return;
+        }
+
+        Set<ClaimType> types = EnumSet.noneOf(ClaimType.class);
+        for (int i = 0; i < chunk.size(); i++) {
+            Claim claim = claims.get(i);
+            results.add(Item.created(chunk.get(i).index(), claim.getId(), claim.getClaimNumber()));
+            types.add(claim.getType());
+        }
+        eventPublisher.publishEvent(new ClaimChangedEvent(orgId, null));
+        for (ClaimType type : types) {
+            eventPublisher.publishEvent(new ClaimRiskInputsChangedEvent(orgId, userId, type));
+        }
+    }
+
+    /**
+     * Moves the given claims to {@code target} under the same rules as the single-claim
+     * review/approve/deny/close endpoints. Role checks apply to the whole request; claims that are
+     * missing or in the wrong state fail on their own and the rest are transitioned.
+     */
+    @Transactional
+    public BulkTransitionResponse transitionClaims(ClaimStatus target, List<UUID> claimIds, UUID userId,
+                                                   OrgContext orgContext) {
+        TransitionRule rule = ruleFor(target, orgContext);
+        UUID orgId = orgContext.getOrganizationId();
+
+        // Locked so a concurrent single-claim transition cannot slip in between check and update
+        Map<UUID, Claim> current = new HashMap<>();
+        for (Object[] row : claimRepository.lockForTransition(orgId, new HashSet<>(claimIds))) {
+            Claim claim = new Claim();
+            claim.setId((UUID) row[0]);
+            claim.setOrganizationId(orgId);
+            claim.setStatus(ClaimStatus.valueOf((String) row[1]));
+            claim.setType(ClaimType.valueOf((String) row[2]));
+            claim.setAmount((BigDecimal) row[3]);
+            current.put(claim.getId(), claim);
+        }
+
+        BulkTransitionResponse response = new BulkTransitionResponse();
+        response.setTarget(target);
+        List<Claim> moving = new ArrayList<>();
+        Set<UUID> moved = new HashSet<>();
+        for (UUID claimId : claimIds) {
+            Claim claim = current.get(claimId);
+            if (claim == null) {
+                response.getResults().add(BulkTransitionResponse.Item.failed(claimId, "Claim not found"));
+            } else if (moved.contains(claimId) || !rule.sources().contains(claim.getStatus())) {
+                // A repeated id sees the claim already in the target state, as a second call would
+                response.getResults().add(BulkTransitionResponse.Item.failed(claimId, rule.sourceError()));
+            } else {
+                moving.add(claim);
+                moved.add(claimId);
+                response.getResults().add(BulkTransitionResponse.Item.transitioned(claimId));
+            }
+        }
+        response.setTransitioned(moving.size());
+        response.setFailed(claimIds.size() - moving.size());
+        if (moving.isEmpty()) {
+            return response;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        claimRepository.applyTransition(orgId, moved, target.name(), PriorityCalculator.statusBoost(target), now,
+                PriorityCalculator.ageCutoff(now, 7),
+                PriorityCalculator.ageCutoff(now, 14),
+                PriorityCalculator.ageCutoff(now, 30));
+        for (Claim claim : moving) {
+            ClaimEvent event = new ClaimEvent();
+            event.setClaimId(claim.getId());
+            event.setActorUserId(userId);
+            event.setEventType(rule.eventType());
+            event.setNote(rule.note());
+            claimEventWriter.append(event);
+        }
+        claimOrgStatsService.recordTransitions(orgId, moving, target);
+        claimRollupService.recordTransitions(orgId, moving, target);
+        eventPublisher.publishEvent(new ClaimChangedEvent(orgId, null));
+        return response;
+    }
+
+    private static TransitionRule ruleFor(ClaimStatus target, OrgContext orgContext) {
+        switch (target) {
+            case UNDER_REVIEW -> {
+                if (!orgContext.isAdmin()) {
+                    throw new SecurityException("Only admins can move claims to review");
+                }
+                return new TransitionRule(EnumSet.of(ClaimStatus.SUBMITTED),
+                        "Can only review claims in SUBMITTED status", EventType.REVIEWED, "Claim moved to review");
+            }
+            case APPROVED -> {
+                if (!orgContext.isAdmin() && !orgContext.isBilling()) {
+                    throw new SecurityException("Only admins or billing users can approve claims");
+                }
+                return new TransitionRule(EnumSet.of(ClaimStatus.UNDER_REVIEW),
+                        "Can only approve claims in UNDER_REVIEW status", EventType.APPROVED, "Claim approved");
+            }
+            case DENIED -> {
+                if (!orgContext.isAdmin()) {
+                    throw new SecurityException("Only admins can deny claims");
+                }
+                return new TransitionRule(EnumSet.of(ClaimStatus.UNDER_REVIEW),
+                        "Can only deny claims in UNDER_REVIEW status", EventType.DENIED, "Claim denied");
+            }
+            case CLOSED -> {
+                return new TransitionRule(EnumSet.of(ClaimStatus.APPROVED, ClaimStatus.DENIED),
+                        "Can only close claims in APPROVED or DENIED status", EventType.CLOSED, "Claim closed");
+            }
+            default -> throw new IllegalStateException(
+                    "target must be one of UNDER_REVIEW, APPROVED, DENIED or CLOSED");
+        }
+    }
+
+    private String validate(CreateClaimRequest request) {
+        Set<ConstraintViolation<CreateClaimRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private record Pending(int index, CreateClaimRequest request) {}
+
+    private record TransitionRule(Set<ClaimStatus> sources, String sourceError, EventType eventType, String note) {}
+}
@@ -0,0 +1,9 @@
+package com.poc.claims.service;
+
+import java.util.UUID;
+
+/**
+ * Published by ClaimService whenever a claim is created or changes. Listeners that only care
+ * about committed data should use @TransactionalEventListener.
+ */
+public record ClaimChangedEvent(UUID organizationId, UUID claimId) {}
@@ -0,0 +1,153 @@
+package com.poc.claims.service;
+
+import com.poc.claims.config.OrgContext;
+import com.poc.claims.dto.ClaimAttachmentResponse;
+import com.poc.claims.dto.ClaimDetailResponse;
+import com.poc.claims.dto.ClaimEventResponse;
+import com.poc.claims.dto.ClaimNoteResponse;
+import com.poc.claims.dto.ClaimResponse;
+import com.poc.claims.model.Claim;
+import com.poc.claims.repository.ClaimAttachmentRepository;
+import com.poc.claims.repository.ClaimEventRepository;
+import com.poc.claims.repository.ClaimNoteRepository;
+import com.poc.claims.repository.ClaimRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Everything the claim page shows, in one call.
+ *
+ * - Ownership is checked once with the claim lookup; the parts are then read by claim id only.
+ * - Each requested part loads on its own virtual thread, in its own read-only repository
+ *   transaction, so the page costs the slowest part rather than the sum of them.
+ * - A part holds a pool connection while it loads, so parts in flight across all requests are
+ *   capped at app.claim-detail.max-concurrent-parts; the rest wait for a permit without holding
+ *   a connection. Keep the cap well below the pool size.
+ * - The parts live no longer than the call: if one fails the others are cancelled, and the
+ *   executor is closed (waiting for all of them) before returning.
+ */
+@Service
+public class ClaimDetailService {
+
+    public enum Part { EVENTS, NOTES, ATTACHMENTS, RISK }
+
+    private final ClaimRepository claimRepository;
+    private final ClaimEventRepository claimEventRepository;
+    private final ClaimNoteRepository claimNoteRepository;
+    private final ClaimAttachmentRepository claimAttachmentRepository;
+    private final ClaimRiskAssessmentService claimRiskAssessmentService;
+    private final Semaphore partPermits;
+
+    public ClaimDetailService(ClaimRepository claimRepository,
+                              ClaimEventRepository claimEventRepository,
+                              ClaimNoteRepository claimNoteRepository,
+                              ClaimAttachmentRepository claimAttachmentRepository,
+                              ClaimRiskAssessmentService claimRiskAssessmentService,
+                              @Value("${app.claim-detail.max-concurrent-parts:6}") int maxConcurrentParts) {
+        this.claimRepository = claimRepository;
+        this.claimEventRepository = claimEventRepository;
+        this.claimNoteRepository = claimNoteRepository;
+        this.claimAttachmentRepository = claimAttachmentRepository;
+        this.claimRiskAssessmentService = claimRiskAssessmentService;
+        this.partPermits = new Semaphore(maxConcurrentParts);
+    }
+
+    /**
+     * Parses a comma-separated {@code include} value; null or blank selects every part.
+     */
+    public static Set<Part> parseInclude(String include) {
+        if (include == null || include.isBlank()) {
+            return EnumSet.allOf(Part.class);
+        }
+        Set<Part> parts = EnumSet.noneOf(Part.class);
+        for (String name : include.split(",")) {
+            try {
+                parts.add(Part.valueOf(name.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("include must list parts from: events, notes, attachments, risk");
+            }
+        }
+        return parts;
+    }
+
+    public ClaimDetailResponse getDetail(UUID claimId, OrgContext orgContext, Set<Part> parts) {
+        Claim claim = claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
+                .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+
+        ClaimDetailResponse response = new ClaimDetailResponse();
+        response.setClaim(ClaimResponse.fromEntity(claim));
+
+        List<Future<?>> tasks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (parts.contains(Part.EVENTS)) {
+                tasks.add(executor.submit(() -> withPermit(() -> response.setEvents(
+                        claimEventRepository.findByClaimIdOrderByTimestampAscIdAsc(claimId).stream()
+                                .map(ClaimEventResponse::fromEntity).toList()))));
+            }
+            if (parts.contains(Part.NOTES)) {
+                tasks.add(executor.submit(() -> withPermit(() -> response.setNotes(
+                        claimNoteRepository.findByClaimIdOrderByCreatedAtAsc(claimId).stream()
+                                .map(ClaimNoteResponse::fromEntity).toList()))));
+            }
+            if (parts.contains(Part.ATTACHMENTS)) {
+                tasks.add(executor.submit(() -> withPermit(() -> response.setAttachments(
+                        claimAttachmentRepository.findByClaimIdOrderByCreatedAtDesc(claimId).stream()
+                                .map(ClaimAttachmentResponse::fromEntity).toList()))));
+            }
+            if (parts.contains(Part.RISK)) {
+                tasks.add(executor.submit(() -> withPermit(() -> response.setRiskSignals(
+                        claimRiskAssessmentService.getAssessments(List.of(claimId), orgContext).get(claimId)))));
+            }
+            awaitAll(tasks);
+        }
+        return response;
+    }
+
+    // Runs one part while holding a permit; waiting for it does not take a connection
+    private void withPermit(Runnable part) {
+        try {
+            partPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading claim detail");
+        }
+        try {
+            part.run();
+        } finally {
+            partPermits.release();
+        }
+    }
+
+    // Waits for every part, cancelling the rest as soon as one fails
+    private static void awaitAll(List<Future<?>> tasks) {
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            tasks.forEach(task -> task.cancel(true));
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Could not load claim detail", e.getCause());
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading claim detail");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.poc.claims.service;
+
+import com.poc.claims.model.ClaimEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes claim_events rows for the current transaction as one JDBC batch just before it commits.
+ *
+ * - Events are appended to a buffer bound to the transaction, so they commit or roll back
+ *   together with the claim change that caused them; nothing is written after commit.
+ * - All events of a transaction go out in a single batched INSERT, after pending entity
+ *   changes are flushed (claim_events references claims).
+ * - Events are not visible to queries in the same transaction until it commits.
+ */
+@Component
+public class ClaimEventWriter {
+
+    static final String INSERT_SQL =
+            "INSERT INTO claim_events (id, claim_id, actor_user_id, event_type, note, actor_display_name, timestamp)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    // Appended by open transactions and not yet written
+    private final AtomicLong pending = new AtomicLong();
+    private final DistributionSummary batchSize;
+    private final Timer flushTimer;
+
+    public ClaimEventWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.batchSize = DistributionSummary.builder("claims.events.batch.size").register(meterRegistry);
+        this.flushTimer = Timer.builder("claims.events.flush").register(meterRegistry);
+        Gauge.builder("claims.events.pending", pending, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * Queues the event for the current transaction. Must be called inside one.
+     */
+    public void append(ClaimEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Claim events can only be written inside a transaction");
+        }
+        if (event.getId() == null) event.setId(UUID.randomUUID());
+        if (event.getTimestamp() == null) event.setTimestamp(LocalDateTime.now());
+
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new Buffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.events.add(event);
+        pending.incrementAndGet();
+    }
+
+    private void write(List<ClaimEvent> events) {
+        flushTimer.record(() -> {
+            entityManager.flush();
+            jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+                ps.setObject(1, event.getId());
+                ps.setObject(2, event.getClaimId());
+                ps.setObject(3, event.getActorUserId());
+                ps.setString(4, event.getEventType().name());
+                ps.setString(5, event.getNote());
+                ps.setString(6, event.getActorDisplayName());
+                ps.setTimestamp(7, Timestamp.valueOf(event.getTimestamp()));
+            });
+        });
+        batchSize.record(events.size());
+    }
+
+    private class Buffer implements TransactionSynchronization {
+
+        private final List<ClaimEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!events.isEmpty()) {
+                write(events);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ClaimEventWriter.this);
+            pending.addAndGet(-events.size());
+        }
+    }
+}
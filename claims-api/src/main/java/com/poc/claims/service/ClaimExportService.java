@@ -0,0 +1,150 @@
+package com.poc.claims.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.poc.claims.config.OrgContext;
+import com.poc.claims.dto.ClaimResponse;
+import com.poc.claims.model.Claim;
+import com.poc.claims.repository.ClaimRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams an organization's claims straight from a database cursor to the response body.
+ * Each row is written and detached before the next is read, so memory stays flat no matter
+ * how many claims the organization has.
+ */
+@Service
+public class ClaimExportService {
+
+    static final String CSV_HEADER = "Claim Number,Type,Status,Amount,Incident Date,Filed Date,Priority";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson"),
+        ARROW("application/vnd.apache.arrow.stream", "arrow");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        // Arrow IPC is binary; only the text formats carry a charset
+        public boolean isText() { return this != ARROW; }
+
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalStateException("format must be 'csv', 'ndjson' or 'arrow'");
+        }
+    }
+
+    private final ClaimRepository claimRepository;
+    private final EntityManager entityManager;
+    private final ClaimArrowWriter claimArrowWriter;
+    private final ObjectWriter rowWriter;
+
+    public ClaimExportService(ClaimRepository claimRepository,
+                              EntityManager entityManager,
+                              ClaimArrowWriter claimArrowWriter,
+                              ObjectMapper objectMapper) {
+        this.claimRepository = claimRepository;
+        this.entityManager = entityManager;
+        this.claimArrowWriter = claimArrowWriter;
+        // Flushing after every row would push one tiny chunk per claim to the socket
+        this.rowWriter = objectMapper.writerFor(ClaimResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every claim of the organization to {@code out} and returns the row count.
+     * The stream is flushed but not closed; the caller owns it.
+     */
+    @Transactional(readOnly = true)
+    public long export(OrgContext orgContext, Format format, OutputStream out) throws IOException {
+        try (Stream<Claim> claims = claimRepository.streamByOrganizationId(orgContext.getOrganizationId())) {
+            if (format == Format.ARROW) {
+                return claimArrowWriter.write(claims.iterator(), entityManager::detach, out);
+            }
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            long rows = format == Format.NDJSON
+                    ? writeNdjson(claims.iterator(), writer)
+                    : writeCsv(claims.iterator(), writer);
+            writer.flush();
+            return rows;
+        }
+    }
+
+    private long writeCsv(Iterator<Claim> claims, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long rows = 0;
+        while (claims.hasNext()) {
+            Claim claim = claims.next();
+            writeCsvRow(writer, claim);
+            entityManager.detach(claim);
+            rows++;
+        }
+        return rows;
+    }
+
+    public static void writeCsvRow(Writer writer, Claim claim) throws IOException {
+        writer.write(claim.getClaimNumber());
+        writer.write(',');
+        writer.write(claim.getType().name());
+        writer.write(',');
+        writer.write(claim.getStatus().name());
+        writer.write(',');
+        if (claim.getAmount() != null) writer.write(claim.getAmount().toPlainString());
+        writer.write(',');
+        if (claim.getIncidentDate() != null) writer.write(claim.getIncidentDate().toString());
+        writer.write(',');
+        if (claim.getFiledDate() != null) writer.write(claim.getFiledDate().toString());
+        writer.write(',');
+        writer.write(claim.getPriority());
+        writer.write('\n');
+    }
+
+    private long writeNdjson(Iterator<Claim> claims, Writer writer) throws IOException {
+        JsonGenerator generator = rowWriter.createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // One object per line; the newline below is the only separator
+        generator.setRootValueSeparator(null);
+
+        long rows = 0;
+        while (claims.hasNext()) {
+            Claim claim = claims.next();
+            rowWriter.writeValue(generator, ClaimResponse.fromEntity(claim));
+            generator.writeRaw('\n');
+
+            entityManager.detach(claim);
+            rows++;
+        }
+        generator.flush();
+        return rows;
+    }
+}
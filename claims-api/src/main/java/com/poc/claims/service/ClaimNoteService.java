@@ -3,7 +3,6 @@ package com.poc.claims.service;
 import com.poc.claims.config.OrgContext;
 import com.poc.claims.model.ClaimNote;
 import com.poc.claims.repository.ClaimNoteRepository;
-import com.poc.claims.repository.ClaimRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,26 +13,24 @@ import java.util.UUID;
 public class ClaimNoteService {
 
     private final ClaimNoteRepository claimNoteRepository;
-    private final ClaimRepository claimRepository;
+    private final ClaimOwnershipCache claimOwnershipCache;
 
-    public ClaimNoteService(ClaimNoteRepository claimNoteRepository, ClaimRepository claimRepository) {
+    public ClaimNoteService(ClaimNoteRepository claimNoteRepository, ClaimOwnershipCache claimOwnershipCache) {
         this.claimNoteRepository = claimNoteRepository;
-        this.claimRepository = claimRepository;
+        this.claimOwnershipCache = claimOwnershipCache;
     }
 
     @Transactional(readOnly = true)
     public List<ClaimNote> getNotes(UUID claimId, OrgContext orgContext) {
         // Verify claim belongs to org
-        claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
-                .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
         return claimNoteRepository.findByClaimIdOrderByCreatedAtAsc(claimId);
     }
 
     @Transactional
     public ClaimNote addNote(UUID claimId, UUID userId, String displayName, String content, OrgContext orgContext) {
         // Verify claim belongs to org
-        claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
-                .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
 
         ClaimNote note = new ClaimNote();
         note.setClaimId(claimId);
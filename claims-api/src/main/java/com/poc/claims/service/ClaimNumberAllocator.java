@@ -0,0 +1,158 @@
+package com.poc.claims.service;
+
+import com.poc.claims.repository.ClaimNumberBlockRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out CLM-YYYY-NNNNN claim numbers from blocks reserved in claim_number_blocks.
+ *
+ * - A block is reserved in its own short transaction, so the counter row is locked only for
+ *   that UPDATE and a rolled-back create can never return numbers to the pool. Callers must not
+ *   be in a transaction: the reservation needs a connection of its own, and waiting for one
+ *   while holding another starves the pool under concurrent creates.
+ * - Numbers within a block come from memory; creates only touch the table once per block.
+ * - The in-memory lock is never held across database I/O. When the block runs out, one caller
+ *   reserves the next one and the others wait on its future, then take from the new block.
+ * - The first number of a new year starts that year's counter.
+ * - Numbers left in a block when the node stops are never issued, so sequences can have gaps.
+ */
+@Component
+public class ClaimNumberAllocator {
+
+    private final ClaimNumberBlockRepository blockRepository;
+    private final TransactionTemplate reserveTransaction;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int year;
+    private long next;
+    private long limit;
+    // Reservation in flight, completed by the caller that started it
+    private CompletableFuture<Void> refill;
+
+    public ClaimNumberAllocator(ClaimNumberBlockRepository blockRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.claim-numbers.block-size:50}") int blockSize) {
+        this.blockRepository = blockRepository;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public String next() {
+        return next(Year.now().getValue());
+    }
+
+    String next(int currentYear) {
+        while (true) {
+            CompletableFuture<Void> pending;
+            boolean reserve = false;
+            lock.lock();
+            try {
+                if (currentYear == year && next < limit) {
+                    return format(currentYear, next++);
+                }
+                if (refill == null) {
+                    refill = new CompletableFuture<>();
+                    reserve = true;
+                }
+                pending = refill;
+            } finally {
+                lock.unlock();
+            }
+
+            if (reserve) {
+                refill(currentYear, pending);
+            } else {
+                join(pending);
+            }
+        }
+    }
+
+    private void refill(int currentYear, CompletableFuture<Void> pending) {
+        long blockEnd;
+        try {
+            blockEnd = reserveBlock(currentYear, blockSize);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                refill = null;
+            } finally {
+                lock.unlock();
+            }
+            pending.completeExceptionally(e);
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            year = currentYear;
+            next = blockEnd - blockSize;
+            limit = blockEnd;
+            refill = null;
+        } finally {
+            lock.unlock();
+        }
+        pending.complete(null);
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reserves {@code count} consecutive numbers with a single UPDATE, for bulk creates. The
+     * numbers are not shared with {@link #next()}.
+     */
+    public List<String> nextBlock(int count) {
+        return nextBlock(Year.now().getValue(), count);
+    }
+
+    List<String> nextBlock(int currentYear, int count) {
+        long blockEnd = reserveBlock(currentYear, count);
+        List<String> numbers = new ArrayList<>(count);
+        for (long value = blockEnd - count; value < blockEnd; value++) {
+            numbers.add(format(currentYear, value));
+        }
+        return numbers;
+    }
+
+    private static String format(int year, long value) {
+        return "CLM-" + year + "-" + String.format("%05d", value);
+    }
+
+    // Returns the exclusive end of the reserved block
+    private long reserveBlock(int year, int size) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Claim numbers must be reserved outside a transaction");
+        }
+        Long blockEnd = reserveTransaction.execute(status -> {
+            blockRepository.insertIfAbsent(year);
+            blockRepository.advance(year, size);
+            return blockRepository.findNextValue(year);
+        });
+        if (blockEnd == null) {
+            throw new IllegalStateException("Could not reserve claim numbers for " + year);
+        }
+        return blockEnd;
+    }
+}
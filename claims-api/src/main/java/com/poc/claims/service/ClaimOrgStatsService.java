@@ -0,0 +1,179 @@
+package com.poc.claims.service;
+
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimOrgStats;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import com.poc.claims.repository.ClaimOrgStatsRepository;
+import com.poc.claims.repository.ClaimRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the claim_org_stats counters. Every write joins the caller's transaction,
+ * so the counters commit or roll back together with the claim change that caused them.
+ */
+@Service
+public class ClaimOrgStatsService {
+
+    private final ClaimOrgStatsRepository claimOrgStatsRepository;
+    private final ClaimRepository claimRepository;
+
+    public ClaimOrgStatsService(ClaimOrgStatsRepository claimOrgStatsRepository, ClaimRepository claimRepository) {
+        this.claimOrgStatsRepository = claimOrgStatsRepository;
+        this.claimRepository = claimRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClaimOrgStats> getCounters(UUID orgId) {
+        return claimOrgStatsRepository.findByOrganizationId(orgId);
+    }
+
+    /**
+     * Claim count for the organization, optionally for one status, summed from the counters.
+     */
+    @Transactional(readOnly = true)
+    public long countClaims(UUID orgId, ClaimStatus status) {
+        return claimOrgStatsRepository.findByOrganizationId(orgId).stream()
+                .filter(counter -> status == null || counter.getStatus() == status)
+                .mapToLong(ClaimOrgStats::getClaimCount)
+                .sum();
+    }
+
+    @Transactional
+    public void recordCreated(Claim claim) {
+        adjust(claim.getOrganizationId(), claim.getStatus(), claim.getType(), 1, amountOf(claim.getAmount()));
+    }
+
+    /**
+     * Counts a batch of new claims with one delta per (status, type) cell instead of one per claim.
+     */
+    @Transactional
+    public void recordCreated(UUID orgId, List<Claim> claims) {
+        Map<ClaimStatus, Map<ClaimType, ClaimOrgStats>> cells = new EnumMap<>(ClaimStatus.class);
+        for (Claim claim : claims) {
+            addToCell(cells, orgId, claim.getStatus(), claim.getType(), 1, amountOf(claim.getAmount()));
+        }
+        applyCells(orgId, cells);
+    }
+
+    /**
+     * Moves a batch of claims to {@code target} with one delta per (status, type) cell. The claims
+     * still carry their previous status.
+     */
+    @Transactional
+    public void recordTransitions(UUID orgId, List<Claim> claims, ClaimStatus target) {
+        Map<ClaimStatus, Map<ClaimType, ClaimOrgStats>> cells = new EnumMap<>(ClaimStatus.class);
+        for (Claim claim : claims) {
+            if (claim.getStatus() == target) continue;
+            BigDecimal amount = amountOf(claim.getAmount());
+            addToCell(cells, orgId, claim.getStatus(), claim.getType(), -1, amount.negate());
+            addToCell(cells, orgId, target, claim.getType(), 1, amount);
+        }
+        applyCells(orgId, cells);
+    }
+
+    @Transactional
+    public void recordTransition(Claim claim, ClaimStatus previousStatus) {
+        recordChange(claim, previousStatus, claim.getType(), claim.getAmount());
+    }
+
+    /**
+     * Moves one claim from its previous (status, type, amount) cell to its current one.
+     */
+    @Transactional
+    public void recordChange(Claim claim, ClaimStatus previousStatus, ClaimType previousType, BigDecimal previousAmount) {
+        BigDecimal oldAmount = amountOf(previousAmount);
+        BigDecimal newAmount = amountOf(claim.getAmount());
+        if (previousStatus == claim.getStatus() && previousType == claim.getType()
+                && oldAmount.compareTo(newAmount) == 0) {
+            return;
+        }
+
+        UUID orgId = claim.getOrganizationId();
+        if (previousStatus == claim.getStatus() && previousType == claim.getType()) {
+            adjust(orgId, claim.getStatus(), claim.getType(), 0, newAmount.subtract(oldAmount));
+            return;
+        }
+
+        // Touch the two cells in a fixed order so concurrent opposite moves cannot deadlock
+        boolean previousFirst = compareCells(previousStatus, previousType, claim.getStatus(), claim.getType()) < 0;
+        if (previousFirst) {
+            adjust(orgId, previousStatus, previousType, -1, oldAmount.negate());
+            adjust(orgId, claim.getStatus(), claim.getType(), 1, newAmount);
+        } else {
+            adjust(orgId, claim.getStatus(), claim.getType(), 1, newAmount);
+            adjust(orgId, previousStatus, previousType, -1, oldAmount.negate());
+        }
+    }
+
+    /**
+     * Recomputes the org's counters from the claims table, for repair after drift.
+     * Returns the rebuilt counters.
+     *
+     * Every (status, type) cell of the org is created if missing and row-locked first, in the
+     * ordinal order writers use, and only then aggregated. A transition that already touched a
+     * cell has committed by the time its lock is granted, so the aggregate includes it; one that
+     * comes later waits and applies its delta on top of the rebuilt value. Cells are overwritten
+     * in place rather than deleted, so no concurrent delta is lost.
+     */
+    @Transactional
+    public List<ClaimOrgStats> rebuild(UUID orgId) {
+        Map<ClaimStatus, Map<ClaimType, ClaimOrgStats>> cells = new EnumMap<>(ClaimStatus.class);
+        for (ClaimStatus status : ClaimStatus.values()) {
+            for (ClaimType type : ClaimType.values()) {
+                claimOrgStatsRepository.insertIfAbsent(orgId, status.name(), type.name());
+                ClaimOrgStats cell = claimOrgStatsRepository.lockCell(orgId, status, type).orElseThrow();
+                cell.setClaimCount(0);
+                cell.setAmountTotal(BigDecimal.ZERO);
+                cells.computeIfAbsent(status, s -> new EnumMap<>(ClaimType.class)).put(type, cell);
+            }
+        }
+
+        for (ClaimRepository.StatusTypeAggregate row : claimRepository.aggregateByStatusAndType(orgId, LocalDateTime.now())) {
+            ClaimOrgStats cell = cells.get(row.getStatus()).get(row.getType());
+            cell.setClaimCount(row.getClaimCount());
+            cell.setAmountTotal(amountOf(row.getAmountTotal()));
+        }
+
+        List<ClaimOrgStats> counters = new ArrayList<>();
+        cells.values().forEach(byType -> counters.addAll(byType.values()));
+        return claimOrgStatsRepository.saveAll(counters);
+    }
+
+    private void adjust(UUID orgId, ClaimStatus status, ClaimType type, long countDelta, BigDecimal amountDelta) {
+        claimOrgStatsRepository.insertIfAbsent(orgId, status.name(), type.name());
+        claimOrgStatsRepository.applyDelta(orgId, status, type, countDelta, amountDelta, LocalDateTime.now());
+    }
+
+    private static void addToCell(Map<ClaimStatus, Map<ClaimType, ClaimOrgStats>> cells, UUID orgId,
+                                  ClaimStatus status, ClaimType type, long countDelta, BigDecimal amountDelta) {
+        ClaimOrgStats cell = cells.computeIfAbsent(status, s -> new EnumMap<>(ClaimType.class))
+                .computeIfAbsent(type, t -> new ClaimOrgStats(orgId, status, type, 0, BigDecimal.ZERO));
+        cell.setClaimCount(cell.getClaimCount() + countDelta);
+        cell.setAmountTotal(cell.getAmountTotal().add(amountDelta));
+    }
+
+    // EnumMaps iterate in ordinal order, the fixed cell order recordChange relies on
+    private void applyCells(UUID orgId, Map<ClaimStatus, Map<ClaimType, ClaimOrgStats>> cells) {
+        cells.values().forEach(byType -> byType.values().forEach(cell ->
+                adjust(orgId, cell.getStatus(), cell.getType(), cell.getClaimCount(), cell.getAmountTotal())));
+    }
+
+    private static int compareCells(ClaimStatus s1, ClaimType t1, ClaimStatus s2, ClaimType t2) {
+        int byStatus = Integer.compare(s1.ordinal(), s2.ordinal());
+        return byStatus != 0 ? byStatus : Integer.compare(t1.ordinal(), t2.ordinal());
+    }
+
+    private static BigDecimal amountOf(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+}
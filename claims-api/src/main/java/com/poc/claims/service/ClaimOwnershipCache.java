@@ -0,0 +1,94 @@
+package com.poc.claims.service;
+
+import com.poc.claims.repository.ClaimRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded claimId -> organizationId map for the ownership checks in front of sub-resource
+ * endpoints (events, notes, attachments).
+ *
+ * - A miss reads only the organization id, not the claim.
+ * - A claim never moves between organizations, so entries are never invalidated; the least
+ *   recently used entry is evicted once the map is full.
+ * - Unknown ids are not cached.
+ */
+@Component
+public class ClaimOwnershipCache {
+
+    private final ClaimRepository claimRepository;
+    private final int maxEntries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, UUID> organizations;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ClaimOwnershipCache(ClaimRepository claimRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.claim-ownership-cache.max-entries:10000}") int maxEntries) {
+        this.claimRepository = claimRepository;
+        this.maxEntries = maxEntries;
+        this.organizations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UUID> eldest) {
+                return size() > ClaimOwnershipCache.this.maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("claims.ownership.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("claims.ownership.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("claims.ownership.cache.size", this, ClaimOwnershipCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Throws IllegalArgumentException("Claim not found") unless the claim exists and belongs to
+     * the organization, the same outcome as a failed findByIdAndOrganizationId.
+     */
+    public void requireOwnedBy(UUID claimId, UUID organizationId) {
+        UUID owner;
+        lock.lock();
+        try {
+            owner = organizations.get(claimId);
+        } finally {
+            lock.unlock();
+        }
+
+        if (owner != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // Looked up outside the lock; two threads missing on the same id both store the same value
+            owner = claimRepository.findOrganizationIdById(claimId).orElse(null);
+            if (owner != null) {
+                lock.lock();
+                try {
+                    organizations.put(claimId, owner);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        if (!organizationId.equals(owner)) {
+            throw new IllegalArgumentException("Claim not found");
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return organizations.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
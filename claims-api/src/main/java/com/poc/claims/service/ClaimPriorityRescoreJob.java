@@ -0,0 +1,55 @@
+package com.poc.claims.service;
+
+import com.poc.claims.repository.ClaimRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the persisted priority current as claims age. Mutations re-score claims in ClaimService;
+ * this job handles the only input that changes without a write, the 7/14/30-day age thresholds,
+ * and touches only claims whose priority_rescore_at has passed.
+ */
+@Component
+public class ClaimPriorityRescoreJob {
+
+    private final ClaimRepository claimRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ClaimPriorityRescoreJob(ClaimRepository claimRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${app.priority-rescore.batch-size:1000}") int batchSize) {
+        this.claimRepository = claimRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.priority-rescore.interval:PT15M}",
+               initialDelayString = "${app.priority-rescore.initial-delay:PT1M}")
+    public void rescoreDueClaims() {
+        rescoreDue(LocalDateTime.now());
+    }
+
+    /**
+     * Re-scores every claim due at {@code now}, one short transaction per batch.
+     */
+    public int rescoreDue(LocalDateTime now) {
+        LocalDateTime olderThan7 = PriorityCalculator.ageCutoff(now, 7);
+        LocalDateTime olderThan14 = PriorityCalculator.ageCutoff(now, 14);
+        LocalDateTime olderThan30 = PriorityCalculator.ageCutoff(now, 30);
+
+        int total = 0;
+        int updated;
+        do {
+            Integer batch = transactionTemplate.execute(status ->
+                    claimRepository.rescoreDue(now, olderThan7, olderThan14, olderThan30, batchSize));
+            updated = batch != null ? batch : 0;
+            total += updated;
+        } while (updated == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,188 @@
+package com.poc.claims.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.claims.config.OrgContext;
+import com.poc.claims.dto.RiskSignalResponse;
+import com.poc.claims.dto.RiskSignalResponse.Signal;
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimRiskAssessment;
+import com.poc.claims.repository.ClaimRiskAssessmentRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persisted risk assessments, so reading a claim's risk is a primary-key lookup.
+ *
+ * - Claims are assessed in the submit transaction. Claims without a stored assessment (drafts,
+ *   claims submitted before the table existed) are computed on read but not stored; reads
+ *   never write.
+ * - When a write changes a user's claim counts or a type's average amount, the (org, user,
+ *   type) key is marked dirty after commit. A scheduled job drains the dirty keys every
+ *   app.risk-refresh.interval and recomputes the affected assessments once per org, so a burst
+ *   of writes to one org and type costs one refresh, on one thread.
+ */
+@Service
+public class ClaimRiskAssessmentService {
+
+    private static final TypeReference<List<Signal>> SIGNAL_LIST = new TypeReference<>() {};
+
+    private final ClaimRiskAssessmentRepository assessmentRepository;
+    private final RiskSignalService riskSignalService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Dirty keys not yet picked up by refreshPending
+    private final Set<ClaimRiskInputsChangedEvent> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    public ClaimRiskAssessmentService(ClaimRiskAssessmentRepository assessmentRepository,
+                                      RiskSignalService riskSignalService,
+                                      TransactionTemplate transactionTemplate,
+                                      ObjectMapper objectMapper) {
+        this.assessmentRepository = assessmentRepository;
+        this.riskSignalService = riskSignalService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Computes and stores the claim's assessment. Joins the caller's transaction.
+     */
+    @Transactional
+    public void assess(Claim claim) {
+        storeAll(riskSignalService.assessRisks(claim.getOrganizationId(), List.of(claim.getId())),
+                claim.getOrganizationId());
+    }
+
+    @Transactional(readOnly = true)
+    public RiskSignalResponse getAssessment(UUID claimId, OrgContext orgContext) {
+        RiskSignalResponse response = getAssessments(List.of(claimId), orgContext).get(claimId);
+        if (response == null) {
+            throw new IllegalArgumentException("Claim not found");
+        }
+        return response;
+    }
+
+    /**
+     * Stored assessments for the given claims, in request order, computing the missing ones in a
+     * single query without storing them. Ids that are unknown or belong to another organization
+     * are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, RiskSignalResponse> getAssessments(Collection<UUID> claimIds, OrgContext orgContext) {
+        UUID orgId = orgContext.getOrganizationId();
+        Map<UUID, RiskSignalResponse> found = new HashMap<>();
+        for (ClaimRiskAssessment assessment : assessmentRepository.findByOrganizationIdAndClaimIdIn(orgId, claimIds)) {
+            found.put(assessment.getClaimId(), toResponse(assessment));
+        }
+
+        List<UUID> missing = claimIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            found.putAll(riskSignalService.assessRisks(orgId, missing));
+        }
+
+        Map<UUID, RiskSignalResponse> responses = new LinkedHashMap<>();
+        for (UUID claimId : claimIds) {
+            RiskSignalResponse response = found.get(claimId);
+            if (response != null) {
+                responses.putIfAbsent(claimId, response);
+            }
+        }
+        return responses;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRiskInputsChanged(ClaimRiskInputsChangedEvent event) {
+        pendingRefreshes.add(event);
+    }
+
+    /**
+     * Recomputes every stored assessment that depends on a dirty user or type, each claim once per
+     * run however many keys touched it, one short transaction per batch.
+     */
+    @Scheduled(fixedDelayString = "${app.risk-refresh.interval:PT2S}")
+    public void refreshPending() {
+        if (pendingRefreshes.isEmpty()) return;
+
+        Map<UUID, Set<UUID>> claimIdsByOrg = new LinkedHashMap<>();
+        for (Iterator<ClaimRiskInputsChangedEvent> it = pendingRefreshes.iterator(); it.hasNext(); ) {
+            ClaimRiskInputsChangedEvent event = it.next();
+            // Removed before the read, so a write committing from here on marks the key again
+            it.remove();
+            claimIdsByOrg.computeIfAbsent(event.organizationId(), id -> new LinkedHashSet<>())
+                    .addAll(assessmentRepository.findClaimIdsSharingInputs(
+                            event.organizationId(), event.userId(), event.type().name()));
+        }
+        claimIdsByOrg.forEach(this::refresh);
+    }
+
+    private void refresh(UUID orgId, Set<UUID> claimIdSet) {
+        List<UUID> claimIds = new ArrayList<>(claimIdSet);
+        for (int from = 0; from < claimIds.size(); from += RiskSignalService.MAX_BATCH_SIZE) {
+            List<UUID> batch = claimIds.subList(from, Math.min(from + RiskSignalService.MAX_BATCH_SIZE, claimIds.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    storeAll(riskSignalService.assessRisks(orgId, batch), orgId));
+        }
+    }
+
+    private void storeAll(Map<UUID, RiskSignalResponse> responses, UUID orgId) {
+        responses.forEach((claimId, response) -> store(claimId, orgId, response));
+    }
+
+    private void store(UUID claimId, UUID orgId, RiskSignalResponse response) {
+        String signals = writeSignals(response.getSignals());
+        int updated = assessmentRepository.updateIfNotNewer(claimId, response.getOverallRisk(),
+                response.getRiskScore(), signals, response.getComputedAt());
+        // A row inserted concurrently between the two statements is updated on the second try
+        if (updated == 0 && assessmentRepository.insertIfAbsent(claimId, orgId, response.getOverallRisk(),
+                response.getRiskScore(), signals, response.getComputedAt()) == 0) {
+            assessmentRepository.updateIfNotNewer(claimId, response.getOverallRisk(),
+                    response.getRiskScore(), signals, response.getComputedAt());
+        }
+    }
+
+    private RiskSignalResponse toResponse(ClaimRiskAssessment assessment) {
+        RiskSignalResponse response = new RiskSignalResponse();
+        response.setOverallRisk(assessment.getOverallRisk());
+        response.setRiskScore(assessment.getRiskScore());
+        response.setSignals(readSignals(assessment.getSignals()));
+        response.setComputedAt(assessment.getComputedAt());
+        return response;
+    }
+
+    private String writeSignals(List<Signal> signals) {
+        try {
+            return objectMapper.writeValueAsString(signals);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Signal> readSignals(String json) {
+        try {
+            return objectMapper.readValue(json, SIGNAL_LIST);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.poc.claims.service;
+
+import com.poc.claims.model.ClaimType;
+
+import java.util.UUID;
+
+/**
+ * Published by ClaimService when a write changes a risk input: the claim counts of
+ * {@code userId} or the average amount of {@code type} within the organization.
+ */
+public record ClaimRiskInputsChangedEvent(UUID organizationId, UUID userId, ClaimType type) {}
@@ -0,0 +1,170 @@
+package com.poc.claims.service;
+
+import com.poc.claims.dto.ClaimTimeSeriesResponse;
+import com.poc.claims.dto.ClaimTimeSeriesResponse.Point;
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimDailyRollup;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.repository.ClaimDailyRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Maintains claim_daily_rollup alongside claim changes and serves the time-series endpoint
+ * from it, so a chart reads one row per day instead of scanning claims.
+ */
+@Service
+public class ClaimRollupService {
+
+    static final long MAX_RANGE_DAYS = 731;
+
+    private final ClaimDailyRollupRepository claimDailyRollupRepository;
+
+    public ClaimRollupService(ClaimDailyRollupRepository claimDailyRollupRepository) {
+        this.claimDailyRollupRepository = claimDailyRollupRepository;
+    }
+
+    @Transactional
+    public void recordFiled(Claim claim) {
+        if (claim.getFiledDate() == null) return;
+        adjust(claim.getOrganizationId(), claim.getFiledDate().toLocalDate(),
+                1, amountOf(claim.getAmount()), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * Records a batch of new claims with one delta per filing day instead of one per claim.
+     */
+    @Transactional
+    public void recordFiled(UUID orgId, List<Claim> claims) {
+        Map<LocalDate, long[]> counts = new TreeMap<>();
+        Map<LocalDate, BigDecimal> amounts = new TreeMap<>();
+        for (Claim claim : claims) {
+            if (claim.getFiledDate() == null) continue;
+            LocalDate day = claim.getFiledDate().toLocalDate();
+            counts.computeIfAbsent(day, d -> new long[1])[0]++;
+            amounts.merge(day, amountOf(claim.getAmount()), BigDecimal::add);
+        }
+        counts.forEach((day, count) ->
+                adjust(orgId, day, count[0], amounts.get(day), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO));
+    }
+
+    /**
+     * Draft edits can change the amount; keep the filed total for the filing day in step.
+     */
+    @Transactional
+    public void recordAmountChange(Claim claim, BigDecimal previousAmount) {
+        BigDecimal delta = amountOf(claim.getAmount()).subtract(amountOf(previousAmount));
+        if (claim.getFiledDate() == null || delta.signum() == 0) return;
+        adjust(claim.getOrganizationId(), claim.getFiledDate().toLocalDate(),
+                0, delta, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public void recordTransition(Claim claim, ClaimStatus previousStatus) {
+        if (claim.getStatus() == previousStatus) return;
+        LocalDate today = LocalDate.now();
+        if (claim.getStatus() == ClaimStatus.APPROVED) {
+            adjust(claim.getOrganizationId(), today, 0, BigDecimal.ZERO, 1, amountOf(claim.getAmount()), 0, BigDecimal.ZERO);
+        } else if (claim.getStatus() == ClaimStatus.DENIED) {
+            adjust(claim.getOrganizationId(), today, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 1, amountOf(claim.getAmount()));
+        }
+    }
+
+    /**
+     * Records a batch of claims moving to {@code target} with one delta for today. The claims
+     * still carry their previous status.
+     */
+    @Transactional
+    public void recordTransitions(UUID orgId, List<Claim> claims, ClaimStatus target) {
+        if (target != ClaimStatus.APPROVED && target != ClaimStatus.DENIED) return;
+        long count = 0;
+        BigDecimal amount = BigDecimal.ZERO;
+        for (Claim claim : claims) {
+            if (claim.getStatus() == target) continue;
+            count++;
+            amount = amount.add(amountOf(claim.getAmount()));
+        }
+        if (count == 0) return;
+        if (target == ClaimStatus.APPROVED) {
+            adjust(orgId, LocalDate.now(), 0, BigDecimal.ZERO, count, amount, 0, BigDecimal.ZERO);
+        } else {
+            adjust(orgId, LocalDate.now(), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, count, amount);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ClaimTimeSeriesResponse getTimeSeries(UUID orgId, String bucket, LocalDate from, LocalDate to) {
+        boolean weekly;
+        if ("day".equals(bucket)) {
+            weekly = false;
+        } else if ("week".equals(bucket)) {
+            weekly = true;
+        } else {
+            throw new IllegalStateException("bucket must be 'day' or 'week'");
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : (weekly ? end.minusWeeks(11) : end.minusDays(29));
+        if (weekly) {
+            start = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        if (start.isAfter(end)) {
+            throw new IllegalStateException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > MAX_RANGE_DAYS) {
+            throw new IllegalStateException("Time range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        // Pre-fill every bucket so charts get explicit zeros for quiet periods
+        Map<LocalDate, Point> points = new LinkedHashMap<>();
+        for (LocalDate d = start; !d.isAfter(end); d = weekly ? d.plusWeeks(1) : d.plusDays(1)) {
+            points.put(d, new Point(d));
+        }
+
+        List<ClaimDailyRollup> rows = claimDailyRollupRepository
+                .findByOrganizationIdAndBucketDateBetweenOrderByBucketDateAsc(orgId, start, end);
+        for (ClaimDailyRollup row : rows) {
+            LocalDate key = weekly
+                    ? row.getBucketDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : row.getBucketDate();
+            Point point = points.get(key);
+            point.setFiledCount(point.getFiledCount() + row.getFiledCount());
+            point.setFiledAmount(point.getFiledAmount().add(row.getFiledAmount()));
+            point.setApprovedCount(point.getApprovedCount() + row.getApprovedCount());
+            point.setApprovedAmount(point.getApprovedAmount().add(row.getApprovedAmount()));
+            point.setDeniedCount(point.getDeniedCount() + row.getDeniedCount());
+            point.setDeniedAmount(point.getDeniedAmount().add(row.getDeniedAmount()));
+        }
+
+        ClaimTimeSeriesResponse response = new ClaimTimeSeriesResponse();
+        response.setBucket(bucket);
+        response.setFrom(start);
+        response.setTo(end);
+        response.setPoints(new ArrayList<>(points.values()));
+        return response;
+    }
+
+    private void adjust(UUID orgId, LocalDate day, long filedCount, BigDecimal filedAmount,
+                        long approvedCount, BigDecimal approvedAmount, long deniedCount, BigDecimal deniedAmount) {
+        claimDailyRollupRepository.insertIfAbsent(orgId, day);
+        claimDailyRollupRepository.applyDelta(orgId, day, filedCount, filedAmount,
+                approvedCount, approvedAmount, deniedCount, deniedAmount, LocalDateTime.now());
+    }
+
+    private static BigDecimal amountOf(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+}
@@ -2,41 +2,102 @@ package com.poc.claims.service;
 
 import com.poc.claims.config.OrgContext;
 import com.poc.claims.dto.ClaimStatsResponse;
+import com.poc.claims.dto.ClaimSummaryResponse;
+import com.poc.claims.dto.ClaimTimeSeriesResponse;
 import com.poc.claims.dto.CreateClaimRequest;
+import com.poc.claims.dto.CursorPage;
+import com.poc.claims.dto.KeysetCursor;
+import com.poc.claims.dto.SliceResponse;
 import com.poc.claims.dto.UpdateClaimRequest;
 import com.poc.claims.model.*;
 import com.poc.claims.repository.ClaimEventRepository;
 import com.poc.claims.repository.ClaimRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Year;
 import java.util.*;
 
 @Service
 public class ClaimService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final Transition SUBMIT = new Transition(List.of(ClaimStatus.DRAFT), ClaimStatus.SUBMITTED,
+            EventType.SUBMITTED, "Claim submitted for review", "submit", "Can only submit claims in DRAFT status");
+    private static final Transition REVIEW = new Transition(List.of(ClaimStatus.SUBMITTED), ClaimStatus.UNDER_REVIEW,
+            EventType.REVIEWED, "Claim moved to review", "review", "Can only review claims in SUBMITTED status");
+    private static final Transition APPROVE = new Transition(List.of(ClaimStatus.UNDER_REVIEW), ClaimStatus.APPROVED,
+            EventType.APPROVED, "Claim approved", "approve", "Can only approve claims in UNDER_REVIEW status");
+    private static final Transition DENY = new Transition(List.of(ClaimStatus.UNDER_REVIEW), ClaimStatus.DENIED,
+            EventType.DENIED, "Claim denied", "deny", "Can only deny claims in UNDER_REVIEW status");
+    private static final Transition CLOSE = new Transition(List.of(ClaimStatus.APPROVED, ClaimStatus.DENIED),
+            ClaimStatus.CLOSED, EventType.CLOSED, "Claim closed", "close", "Can only close claims in APPROVED or DENIED status");
+
     private final ClaimRepository claimRepository;
     private final ClaimEventRepository claimEventRepository;
-
-    public ClaimService(ClaimRepository claimRepository, ClaimEventRepository claimEventRepository) {
+    private final ClaimEventWriter claimEventWriter;
+    private final ClaimOrgStatsService claimOrgStatsService;
+    private final ClaimRollupService claimRollupService;
+    private final ClaimStatsCache claimStatsCache;
+    private final ClaimRiskAssessmentService claimRiskAssessmentService;
+    private final ClaimNumberAllocator claimNumberAllocator;
+    private final ClaimOwnershipCache claimOwnershipCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate statsTransaction;
+
+    public ClaimService(ClaimRepository claimRepository, ClaimEventRepository claimEventRepository,
+                        ClaimEventWriter claimEventWriter, ClaimOrgStatsService claimOrgStatsService, ClaimRollupService claimRollupService,
+                        ClaimStatsCache claimStatsCache, ClaimRiskAssessmentService claimRiskAssessmentService,
+                        ClaimNumberAllocator claimNumberAllocator, ClaimOwnershipCache claimOwnershipCache,
+                        ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.claimRepository = claimRepository;
         this.claimEventRepository = claimEventRepository;
+        this.claimEventWriter = claimEventWriter;
+        this.claimOrgStatsService = claimOrgStatsService;
+        this.claimRollupService = claimRollupService;
+        this.claimStatsCache = claimStatsCache;
+        this.claimRiskAssessmentService = claimRiskAssessmentService;
+        this.claimNumberAllocator = claimNumberAllocator;
+        this.claimOwnershipCache = claimOwnershipCache;
+        this.eventPublisher = eventPublisher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.statsTransaction = new TransactionTemplate(transactionManager);
+        this.statsTransaction.setReadOnly(true);
+        // Per-statement snapshots (READ COMMITTED) could let a concurrent write split the totals
+        this.statsTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
     }
 
-    @Transactional
+    /**
+     * The claim number is allocated before the transaction opens: reserving a new block takes a
+     * connection of its own, which must not be awaited while this request holds one.
+     */
     public Claim createClaim(CreateClaimRequest request, UUID userId, OrgContext orgContext) {
         if (!orgContext.isAdmin()) {
             throw new SecurityException("Only admins can create claims");
         }
 
+        String claimNumber = claimNumberAllocator.next();
+        return writeTransaction.execute(status -> insertClaim(request, claimNumber, userId, orgContext));
+    }
+
+    private Claim insertClaim(CreateClaimRequest request, String claimNumber, UUID userId, OrgContext orgContext) {
         Claim claim = new Claim();
         claim.setId(UUID.randomUUID());
-        claim.setClaimNumber(generateClaimNumber());
+        claim.setClaimNumber(claimNumber);
         claim.setUserId(userId);
         claim.setOrganizationId(orgContext.getOrganizationId());
         claim.setStatus(ClaimStatus.DRAFT);
@@ -45,18 +106,32 @@ public class ClaimService {
         claim.setIncidentDate(request.getIncidentDate());
         claim.setAmount(request.getAmount());
         claim.setFiledDate(LocalDateTime.now());
+        applyPriority(claim);
 
         claim = claimRepository.save(claim);
+        claimOrgStatsService.recordCreated(claim);
+        claimRollupService.recordFiled(claim);
 
         createEvent(claim.getId(), userId, EventType.CREATED, "Claim created");
+        publishChange(claim);
+        publishRiskInputsChange(claim, claim.getType());
 
         return claim;
     }
 
+    /**
+     * Applies the request to a DRAFT claim. With {@code expectedVersion} (from If-Match) the
+     * update only goes ahead if the claim is still at that version.
+     */
     @Transactional
-    public Claim updateClaim(UUID claimId, UpdateClaimRequest request, UUID userId, OrgContext orgContext) {
+    public Claim updateClaim(UUID claimId, UpdateClaimRequest request, Long expectedVersion, UUID userId,
+                             OrgContext orgContext) {
         Claim claim = getClaimForOrg(claimId, orgContext);
 
+        if (expectedVersion != null && !expectedVersion.equals(claim.getVersion())) {
+            throw new ClaimVersionMismatchException("Claim has been modified since it was read");
+        }
+
         if (claim.getStatus() != ClaimStatus.DRAFT) {
             throw new IllegalStateException("Can only update claims in DRAFT status");
         }
@@ -65,33 +140,37 @@ public class ClaimService {
             throw new SecurityException("Only the claim owner or an admin can update this claim");
         }
 
+        ClaimType previousType = claim.getType();
+        BigDecimal previousAmount = claim.getAmount();
+        LocalDate previousIncidentDate = claim.getIncidentDate();
+
         if (request.getType() != null) claim.setType(request.getType());
         if (request.getDescription() != null) claim.setDescription(request.getDescription());
         if (request.getIncidentDate() != null) claim.setIncidentDate(request.getIncidentDate());
         if (request.getAmount() != null) claim.setAmount(request.getAmount());
+        applyPriority(claim);
 
         claim = claimRepository.save(claim);
+        claimOrgStatsService.recordChange(claim, claim.getStatus(), previousType, previousAmount);
+        claimRollupService.recordAmountChange(claim, previousAmount);
         createEvent(claim.getId(), userId, EventType.UPDATED, "Claim updated");
+        publishChange(claim);
+        if (claim.getType() != previousType || !Objects.equals(claim.getAmount(), previousAmount)
+                || !Objects.equals(claim.getIncidentDate(), previousIncidentDate)) {
+            publishRiskInputsChange(claim, claim.getType());
+            if (claim.getType() != previousType) {
+                publishRiskInputsChange(claim, previousType);
+            }
+        }
 
         return claim;
     }
 
     @Transactional
     public Claim submitClaim(UUID claimId, UUID userId, OrgContext orgContext) {
-        Claim claim = getClaimForOrg(claimId, orgContext);
-
-        if (claim.getStatus() != ClaimStatus.DRAFT) {
-            throw new IllegalStateException("Can only submit claims in DRAFT status");
-        }
-
-        if (!claim.getUserId().equals(userId) && !orgContext.isAdmin()) {
-            throw new SecurityException("Only the claim owner or an admin can submit this claim");
-        }
-
-        claim.setStatus(ClaimStatus.SUBMITTED);
-        claim = claimRepository.save(claim);
-        createEvent(claim.getId(), userId, EventType.SUBMITTED, "Claim submitted for review");
-
+        // Non-admins may only submit their own claims; the UPDATE checks the owner
+        Claim claim = transition(claimId, userId, orgContext, SUBMIT, orgContext.isAdmin());
+        claimRiskAssessmentService.assess(claim);
         return claim;
     }
 
@@ -101,17 +180,7 @@ public class ClaimService {
             throw new SecurityException("Only admins can move claims to review");
         }
 
-        Claim claim = getClaimForOrg(claimId, orgContext);
-
-        if (claim.getStatus() != ClaimStatus.SUBMITTED) {
-            throw new IllegalStateException("Can only review claims in SUBMITTED status");
-        }
-
-        claim.setStatus(ClaimStatus.UNDER_REVIEW);
-        claim = claimRepository.save(claim);
-        createEvent(claim.getId(), userId, EventType.REVIEWED, "Claim moved to review");
-
-        return claim;
+        return transition(claimId, userId, orgContext, REVIEW, true);
     }
 
     @Transactional
@@ -120,17 +189,7 @@ public class ClaimService {
             throw new SecurityException("Only admins or billing users can approve claims");
         }
 
-        Claim claim = getClaimForOrg(claimId, orgContext);
-
-        if (claim.getStatus() != ClaimStatus.UNDER_REVIEW) {
-            throw new IllegalStateException("Can only approve claims in UNDER_REVIEW status");
-        }
-
-        claim.setStatus(ClaimStatus.APPROVED);
-        claim = claimRepository.save(claim);
-        createEvent(claim.getId(), userId, EventType.APPROVED, "Claim approved");
-
-        return claim;
+        return transition(claimId, userId, orgContext, APPROVE, true);
     }
 
     @Transactional
@@ -139,32 +198,12 @@ public class ClaimService {
             throw new SecurityException("Only admins can deny claims");
         }
 
-        Claim claim = getClaimForOrg(claimId, orgContext);
-
-        if (claim.getStatus() != ClaimStatus.UNDER_REVIEW) {
-            throw new IllegalStateException("Can only deny claims in UNDER_REVIEW status");
-        }
-
-        claim.setStatus(ClaimStatus.DENIED);
-        claim = claimRepository.save(claim);
-        createEvent(claim.getId(), userId, EventType.DENIED, "Claim denied");
-
-        return claim;
+        return transition(claimId, userId, orgContext, DENY, true);
     }
 
     @Transactional
     public Claim closeClaim(UUID claimId, UUID userId, OrgContext orgContext) {
-        Claim claim = getClaimForOrg(claimId, orgContext);
-
-        if (claim.getStatus() != ClaimStatus.APPROVED && claim.getStatus() != ClaimStatus.DENIED) {
-            throw new IllegalStateException("Can only close claims in APPROVED or DENIED status");
-        }
-
-        claim.setStatus(ClaimStatus.CLOSED);
-        claim = claimRepository.save(claim);
-        createEvent(claim.getId(), userId, EventType.CLOSED, "Claim closed");
-
-        return claim;
+        return transition(claimId, userId, orgContext, CLOSE, true);
     }
 
     @Transactional(readOnly = true)
@@ -172,8 +211,18 @@ public class ClaimService {
         return getClaimForOrg(claimId, orgContext);
     }
 
+    /**
+     * Current version of the claim, for conditional GETs; reads one column instead of the claim.
+     */
+    @Transactional(readOnly = true)
+    public long getClaimVersion(UUID claimId, OrgContext orgContext) {
+        return claimRepository.findVersionByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
+            .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
+    }
+
     @Transactional(readOnly = true)
     public Page<Claim> listClaims(OrgContext orgContext, ClaimStatus status, Pageable pageable) {
+        pageable = withPrioritySort(pageable);
         if (status != null) {
             return claimRepository.findByOrganizationIdAndStatus(orgContext.getOrganizationId(), status, pageable);
         }
@@ -181,79 +230,293 @@ public class ClaimService {
     }
 
     @Transactional(readOnly = true)
-    public List<Claim> listAllClaims(OrgContext orgContext) {
-        return claimRepository.findByOrganizationId(orgContext.getOrganizationId());
+    public Page<ClaimSummaryResponse> listClaimSummaries(OrgContext orgContext, ClaimStatus status, Pageable pageable) {
+        pageable = withPrioritySort(pageable);
+        if (status != null) {
+            return claimRepository.findSummariesByOrganizationIdAndStatus(orgContext.getOrganizationId(), status, pageable);
+        }
+        return claimRepository.findSummariesByOrganizationId(orgContext.getOrganizationId(), pageable);
     }
 
+    /**
+     * Offset listing without the COUNT query a Page needs. The total, when asked for, is read
+     * from the per-organization counters instead.
+     */
     @Transactional(readOnly = true)
-    public List<ClaimEvent> getClaimEvents(UUID claimId, OrgContext orgContext) {
-        // Verify the claim belongs to the org
-        getClaimForOrg(claimId, orgContext);
-        return claimEventRepository.findByClaimIdOrderByTimestampAsc(claimId);
+    public SliceResponse<Claim> listClaimsSlice(OrgContext orgContext, ClaimStatus status, Pageable pageable,
+                                                boolean includeTotal) {
+        UUID orgId = orgContext.getOrganizationId();
+        pageable = withPrioritySort(pageable);
+        Slice<Claim> slice = status != null
+                ? claimRepository.findSliceByOrganizationIdAndStatus(orgId, status, pageable)
+                : claimRepository.findSliceByOrganizationId(orgId, pageable);
+
+        SliceResponse<Claim> response = SliceResponse.fromSlice(slice);
+        if (includeTotal) {
+            response.setApproximateTotal(claimOrgStatsService.countClaims(orgId, status));
+        }
+        return response;
     }
 
+    /**
+     * Keyset-paginated listing, newest first. Fetches one extra row to learn whether another page
+     * exists, so neither deep pages nor the last page cost more than the first.
+     */
     @Transactional(readOnly = true)
-    public ClaimStatsResponse getClaimStats(OrgContext orgContext) {
+    public CursorPage<Claim> listClaimsByCursor(OrgContext orgContext, ClaimStatus status, String cursor, int size) {
         UUID orgId = orgContext.getOrganizationId();
-        ClaimStatsResponse stats = new ClaimStatsResponse();
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable window = PageRequest.of(0, limit + 1);
+        KeysetCursor after = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+
+        List<Claim> rows;
+        if (after == null) {
+            rows = status != null
+                    ? claimRepository.findKeysetFirstByStatus(orgId, status, window)
+                    : claimRepository.findKeysetFirst(orgId, window);
+        } else {
+            rows = status != null
+                    ? claimRepository.findKeysetAfterByStatus(orgId, status, after.createdAt(), after.id(), window)
+                    : claimRepository.findKeysetAfter(orgId, after.createdAt(), after.id(), window);
+        }
 
-        long total = claimRepository.countByOrganizationId(orgId);
-        stats.setTotalClaims(total);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Claim> page = rows.subList(0, limit);
+        return new CursorPage<>(page, KeysetCursor.of(page.get(limit - 1)).encode());
+    }
 
-        // Open claims = not CLOSED and not DENIED
-        long closedCount = claimRepository.countByOrganizationIdAndStatus(orgId, ClaimStatus.CLOSED);
-        long deniedCount = claimRepository.countByOrganizationIdAndStatus(orgId, ClaimStatus.DENIED);
-        stats.setOpenClaims(total - closedCount - deniedCount);
+    @Transactional(readOnly = true)
+    public ClaimTimeSeriesResponse getClaimTimeSeries(OrgContext orgContext, String bucket, LocalDate from, LocalDate to) {
+        return claimRollupService.getTimeSeries(orgContext.getOrganizationId(), bucket, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClaimEvent> getClaimEvents(UUID claimId, OrgContext orgContext) {
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
+        return claimEventRepository.findByClaimIdOrderByTimestampAscIdAsc(claimId);
+    }
 
-        // Claims by status
+    /**
+     * Id of the claim's newest event, or null if it has none; identifies the timeline's state.
+     */
+    @Transactional(readOnly = true)
+    public UUID getLatestEventId(UUID claimId, OrgContext orgContext) {
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
+        List<UUID> latest = claimEventRepository.findLatestIds(claimId, PageRequest.of(0, 1));
+        return latest.isEmpty() ? null : latest.get(0);
+    }
+
+    /**
+     * One page of the claim's timeline, oldest first or newest first, continuing after
+     * {@code cursor}. Fetches one extra row to learn whether another page exists.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ClaimEvent> getClaimEventsPage(UUID claimId, OrgContext orgContext, String cursor, int size,
+                                                     boolean newestFirst) {
+        claimOwnershipCache.requireOwnedBy(claimId, orgContext.getOrganizationId());
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable window = PageRequest.of(0, limit + 1);
+        KeysetCursor after = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+
+        List<ClaimEvent> rows;
+        if (after == null) {
+            rows = newestFirst
+                    ? claimEventRepository.findTimelineFirstDesc(claimId, window)
+                    : claimEventRepository.findTimelineFirstAsc(claimId, window);
+        } else {
+            rows = newestFirst
+                    ? claimEventRepository.findTimelineAfterDesc(claimId, after.createdAt(), after.id(), window)
+                    : claimEventRepository.findTimelineAfterAsc(claimId, after.createdAt(), after.id(), window);
+        }
+
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<ClaimEvent> page = rows.subList(0, limit);
+        return new CursorPage<>(page, KeysetCursor.of(page.get(limit - 1)).encode());
+    }
+
+    /**
+     * Served from ClaimStatsCache; a miss or stale entry recomputes through computeClaimStats, in
+     * one read-only REPEATABLE READ transaction so the counters, weekly count and priority counts
+     * come from one snapshot.
+     * The cache may call it on its refresh thread, hence the template rather than @Transactional.
+     */
+    public ClaimStatsResponse getClaimStats(OrgContext orgContext) {
+        return claimStatsCache.get(orgContext.getOrganizationId(),
+                orgId -> statsTransaction.execute(status -> computeClaimStats(orgId)));
+    }
+
+    ClaimStatsResponse computeClaimStats(UUID orgId) {
+        ClaimStatsResponse stats = new ClaimStatsResponse();
+
+        // Counts and exposure come from the maintained per-org counters (at most one row per status/type)
         Map<String, Long> byStatus = new LinkedHashMap<>();
         for (ClaimStatus s : ClaimStatus.values()) {
-            byStatus.put(s.name(), claimRepository.countByOrganizationIdAndStatus(orgId, s));
+            byStatus.put(s.name(), 0L);
         }
-        stats.setClaimsByStatus(byStatus);
-
-        // Claims by type - compute from all claims
-        List<Claim> allClaims = claimRepository.findByOrganizationId(orgId);
         Map<String, Long> byType = new LinkedHashMap<>();
         for (ClaimType t : ClaimType.values()) {
-            byType.put(t.name(), allClaims.stream().filter(c -> c.getType() == t).count());
+            byType.put(t.name(), 0L);
+        }
+
+        long total = 0;
+        BigDecimal exposure = BigDecimal.ZERO;
+        for (ClaimOrgStats counter : claimOrgStatsService.getCounters(orgId)) {
+            long count = counter.getClaimCount();
+            total += count;
+            byStatus.merge(counter.getStatus().name(), count, Long::sum);
+            byType.merge(counter.getType().name(), count, Long::sum);
+            // Total exposure (sum of open claim amounts)
+            if (counter.getStatus() != ClaimStatus.CLOSED && counter.getStatus() != ClaimStatus.DENIED) {
+                exposure = exposure.add(counter.getAmountTotal());
+            }
         }
-        stats.setClaimsByType(byType);
 
-        // Total exposure (sum of open claim amounts)
-        BigDecimal exposure = claimRepository.sumAmountByOrganizationIdAndStatusNotIn(orgId,
-                List.of(ClaimStatus.CLOSED, ClaimStatus.DENIED));
+        stats.setTotalClaims(total);
+        stats.setClaimsByStatus(byStatus);
+        stats.setClaimsByType(byType);
         stats.setTotalExposure(exposure);
 
+        // Open claims = not CLOSED and not DENIED
+        long closedCount = byStatus.get(ClaimStatus.CLOSED.name());
+        long deniedCount = byStatus.get(ClaimStatus.DENIED.name());
+        stats.setOpenClaims(total - closedCount - deniedCount);
+
         // Approval rate
-        long approvedCount = claimRepository.countByOrganizationIdAndStatus(orgId, ClaimStatus.APPROVED);
+        long approvedCount = byStatus.get(ClaimStatus.APPROVED.name());
         long decidedCount = approvedCount + deniedCount + closedCount;
         stats.setApprovalRate(decidedCount > 0 ? (double) approvedCount / decidedCount * 100.0 : 0.0);
 
-        // Claims this week
+        // Claims this week (index range scan on organization_id, created_at)
         LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
         stats.setClaimsThisWeek(claimRepository.countByOrganizationIdAndCreatedAtAfter(orgId, weekAgo));
 
-        // Claims by priority
+        // Claims by priority, grouped on the persisted priority column
         Map<String, Long> byPriority = new LinkedHashMap<>();
         byPriority.put("CRITICAL", 0L);
         byPriority.put("HIGH", 0L);
         byPriority.put("MEDIUM", 0L);
         byPriority.put("LOW", 0L);
-        for (Claim c : allClaims) {
-            String priority = PriorityCalculator.calculate(c.getType(), c.getAmount(), c.getFiledDate(), c.getStatus()).priority();
-            byPriority.merge(priority, 1L, Long::sum);
+        for (Object[] row : claimRepository.countByPriority(orgId)) {
+            byPriority.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum);
         }
         stats.setClaimsByPriority(byPriority);
 
         return stats;
     }
 
+    /**
+     * Recomputes the org's stats counters from the claims table. Admin-only repair operation.
+     */
+    @Transactional
+    public ClaimStatsResponse rebuildClaimStats(OrgContext orgContext) {
+        if (!orgContext.isAdmin()) {
+            throw new SecurityException("Only admins can rebuild claim stats");
+        }
+        UUID orgId = orgContext.getOrganizationId();
+        claimOrgStatsService.rebuild(orgId);
+        eventPublisher.publishEvent(new ClaimChangedEvent(orgId, null));
+        return computeClaimStats(orgId);
+    }
+
     private Claim getClaimForOrg(UUID claimId, OrgContext orgContext) {
         return claimRepository.findByIdAndOrganizationId(claimId, orgContext.getOrganizationId())
             .orElseThrow(() -> new IllegalArgumentException("Claim not found"));
     }
 
+    /**
+     * Writes the transition as one conditional UPDATE per source status, which checks the status
+     * (and the owner, unless {@code anyOwner}) and re-scores the claim in SQL; of two racing
+     * transitions exactly one matches. The claim is only read afterwards, from the updated row.
+     * When nothing matched, a narrow lookup picks the error: 404 for a missing claim, 409 when
+     * the claim already reached the target or changed under the UPDATE, 400 for a status the
+     * transition cannot start from and 403 for someone else's claim. The loser writes nothing else.
+     */
+    private Claim transition(UUID claimId, UUID userId, OrgContext orgContext, Transition transition, boolean anyOwner) {
+        UUID orgId = orgContext.getOrganizationId();
+        LocalDateTime now = LocalDateTime.now();
+        for (ClaimStatus previousStatus : transition.sources()) {
+            int updated = claimRepository.compareAndSetStatus(claimId, orgId,
+                    previousStatus.name(), transition.target().name(), PriorityCalculator.statusBoost(transition.target()),
+                    anyOwner, userId, now,
+                    PriorityCalculator.ageCutoff(now, 7),
+                    PriorityCalculator.ageCutoff(now, 14),
+                    PriorityCalculator.ageCutoff(now, 30));
+            if (updated == 1) {
+                Claim claim = getClaimForOrg(claimId, orgContext);
+                claimOrgStatsService.recordTransition(claim, previousStatus);
+                claimRollupService.recordTransition(claim, previousStatus);
+                createEvent(claimId, userId, transition.eventType(), transition.note());
+                publishChange(claim);
+                return claim;
+            }
+        }
+        throw transitionFailure(claimId, userId, orgId, transition, anyOwner);
+    }
+
+    private RuntimeException transitionFailure(UUID claimId, UUID userId, UUID orgId, Transition transition,
+                                               boolean anyOwner) {
+        ClaimRepository.TransitionState state =
+                claimRepository.findTransitionStateByIdAndOrganizationId(claimId, orgId).orElse(null);
+        if (state == null) {
+            return new IllegalArgumentException("Claim not found");
+        }
+        if (state.getStatus() == transition.target()) {
+            return new OptimisticLockingFailureException("Claim " + claimId + " is already " + transition.target());
+        }
+        if (!transition.sources().contains(state.getStatus())) {
+            return new IllegalStateException(transition.sourceError());
+        }
+        if (!anyOwner && !state.getUserId().equals(userId)) {
+            return new SecurityException("Only the claim owner or an admin can " + transition.verb() + " this claim");
+        }
+        return new OptimisticLockingFailureException("Claim " + claimId + " was changed by another request");
+    }
+
+    /**
+     * A single-claim status change: the statuses it starts from, tried in order, and what it records.
+     */
+    private record Transition(List<ClaimStatus> sources, ClaimStatus target, EventType eventType, String note,
+                              String verb, String sourceError) {
+    }
+
+    /**
+     * Re-scores the claim from its current state. Called before every save so the persisted
+     * priority never lags a mutation; ClaimPriorityRescoreJob covers ageing between writes.
+     */
+    static void applyPriority(Claim claim) {
+        LocalDateTime now = LocalDateTime.now();
+        PriorityCalculator.PriorityResult pr = PriorityCalculator.calculate(
+                claim.getType(), claim.getAmount(), claim.getFiledDate(), claim.getStatus(), now);
+        claim.setPriority(pr.priority());
+        claim.setPriorityScore(pr.score());
+        claim.setPriorityRescoreAt(PriorityCalculator.nextRescoreAt(claim.getFiledDate(), now));
+    }
+
+    /**
+     * Clients sort by "priority"; the label sorts alphabetically, so order by the score instead.
+     */
+    static Pageable withPrioritySort(Pageable pageable) {
+        if (pageable.getSort().getOrderFor("priority") == null) {
+            return pageable;
+        }
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> "priority".equals(order.getProperty()) ? order.withProperty("priorityScore") : order)
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private void publishChange(Claim claim) {
+        eventPublisher.publishEvent(new ClaimChangedEvent(claim.getOrganizationId(), claim.getId()));
+    }
+
+    private void publishRiskInputsChange(Claim claim, ClaimType type) {
+        eventPublisher.publishEvent(new ClaimRiskInputsChangedEvent(claim.getOrganizationId(), claim.getUserId(), type));
+    }
+
     private void createEvent(UUID claimId, UUID actorUserId, EventType eventType, String note) {
         createEvent(claimId, actorUserId, null, eventType, note);
     }
@@ -265,12 +528,6 @@ public class ClaimService {
         event.setActorDisplayName(actorDisplayName);
         event.setEventType(eventType);
         event.setNote(note);
-        claimEventRepository.save(event);
-    }
-
-    String generateClaimNumber() {
-        String prefix = "CLM-" + Year.now().getValue() + "-";
-        long count = claimRepository.countByClaimNumberPrefix(prefix);
-        return prefix + String.format("%05d", count + 1);
+        claimEventWriter.append(event);
     }
 }
@@ -0,0 +1,217 @@
+package com.poc.claims.service;
+
+import com.poc.claims.dto.ClaimStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded per-organization cache in front of the stats computation.
+ *
+ * - Entries are marked stale when a claim in the org changes (after commit) or when the TTL
+ *   passes, which bounds staleness from writes on other nodes.
+ * - A stale entry is recomputed in the background on a small bounded pool; every caller,
+ *   including the one that noticed, gets the last value meanwhile. At most one refresh per org
+ *   is queued or running.
+ * - Concurrent misses for the same org wait on a single computation on the caller's thread.
+ */
+@Component
+public class ClaimStatsCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Entry> entries;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter recomputeFailures;
+    private final Timer recomputeTimer;
+
+    public ClaimStatsCache(MeterRegistry meterRegistry,
+                           @Value("${app.stats-cache.max-entries:1000}") int maxEntries,
+                           @Value("${app.stats-cache.ttl:30s}") Duration ttl,
+                           @Value("${app.stats-cache.refresh-threads:2}") int refreshThreads) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > ClaimStatsCache.this.maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("claims.stats.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.staleHits = Counter.builder("claims.stats.cache.requests").tag("result", "stale").register(meterRegistry);
+        this.misses = Counter.builder("claims.stats.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.recomputeFailures = Counter.builder("claims.stats.cache.recompute.failures").register(meterRegistry);
+        this.recomputeTimer = Timer.builder("claims.stats.cache.recompute").register(meterRegistry);
+        Gauge.builder("claims.stats.cache.size", this, ClaimStatsCache::size).register(meterRegistry);
+
+        // One queued refresh per org at most, so the queue never needs more room than the cache
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxEntries), runnable -> {
+                    Thread thread = new Thread(runnable, "stats-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public ClaimStatsResponse get(UUID orgId, Function<UUID, ClaimStatsResponse> loader) {
+        CompletableFuture<ClaimStatsResponse> pending;
+        long generation;
+        Entry entry;
+
+        lock.lock();
+        try {
+            entry = entries.computeIfAbsent(orgId, id -> new Entry());
+            boolean stale = entry.stale || System.nanoTime() - entry.loadedAt > ttlNanos;
+
+            if (entry.value != null && !stale) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry.value != null) {
+                // Serve the last value and refresh in the background, unless a refresh is under way
+                staleHits.increment();
+                if (entry.pending == null) {
+                    entry.pending = new CompletableFuture<>();
+                    scheduleRefresh(orgId, entry, entry.pending, entry.generation, loader);
+                }
+                return entry.value;
+            }
+            misses.increment();
+            if (entry.pending != null) {
+                // Coalesce with the in-flight computation
+                pending = entry.pending;
+                generation = -1;
+            } else {
+                pending = new CompletableFuture<>();
+                entry.pending = pending;
+                generation = entry.generation;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (generation >= 0) {
+            recompute(orgId, entry, pending, generation, loader);
+        }
+        return join(pending);
+    }
+
+    public void invalidate(UUID orgId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(orgId);
+            if (entry != null) {
+                entry.stale = true;
+                entry.generation++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClaimChanged(ClaimChangedEvent event) {
+        invalidate(event.organizationId());
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // Called with the lock held
+    private void scheduleRefresh(UUID orgId, Entry entry, CompletableFuture<ClaimStatsResponse> pending,
+                                 long generation, Function<UUID, ClaimStatsResponse> loader) {
+        try {
+            refreshExecutor.execute(() -> recompute(orgId, entry, pending, generation, loader));
+        } catch (RejectedExecutionException e) {
+            // Shutting down: keep serving the last value, the next read tries again
+            entry.pending = null;
+        }
+    }
+
+    private void recompute(UUID orgId, Entry entry, CompletableFuture<ClaimStatsResponse> pending,
+                           long generation, Function<UUID, ClaimStatsResponse> loader) {
+        long start = System.nanoTime();
+        ClaimStatsResponse value;
+        try {
+            value = loader.apply(orgId);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                entry.pending = null;
+            } finally {
+                lock.unlock();
+            }
+            recomputeFailures.increment();
+            pending.completeExceptionally(e);
+            return;
+        }
+        long end = System.nanoTime();
+        recomputeTimer.record(Duration.ofNanos(end - start));
+
+        lock.lock();
+        try {
+            entry.value = value;
+            entry.loadedAt = end;
+            // An invalidation that raced with this computation keeps the entry stale
+            entry.stale = entry.generation != generation;
+            entry.pending = null;
+        } finally {
+            lock.unlock();
+        }
+        pending.complete(value);
+    }
+
+    private static ClaimStatsResponse join(CompletableFuture<ClaimStatsResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private static class Entry {
+        ClaimStatsResponse value;
+        long loadedAt;
+        boolean stale;
+        long generation;
+        CompletableFuture<ClaimStatsResponse> pending;
+    }
+}
@@ -0,0 +1,12 @@
+package com.poc.claims.service;
+
+/**
+ * The claim no longer has the version the client based its change on (If-Match). Mapped to
+ * 412 Precondition Failed.
+ */
+public class ClaimVersionMismatchException extends RuntimeException {
+
+    public ClaimVersionMismatchException(String message) {
+        super(message);
+    }
+}
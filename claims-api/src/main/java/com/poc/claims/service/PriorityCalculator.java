@@ -1,5 +1,6 @@
 package com.poc.claims.service;
 
+import com.poc.claims.model.ClaimPriority;
 import com.poc.claims.model.ClaimStatus;
 import com.poc.claims.model.ClaimType;
 
@@ -9,20 +10,100 @@ import java.time.temporal.ChronoUnit;
 
 public final class PriorityCalculator {
 
+    // Scale 2 to match claims.amount: compareTo between two compact BigDecimals of equal scale
+    // is a plain long comparison of the unscaled values, with no allocation.
+    private static final BigDecimal AMOUNT_100K = new BigDecimal("100000.00");
+    private static final BigDecimal AMOUNT_50K = new BigDecimal("50000.00");
+    private static final BigDecimal AMOUNT_10K = new BigDecimal("10000.00");
+    private static final BigDecimal AMOUNT_1K = new BigDecimal("1000.00");
+
+    private static final int[] AGE_THRESHOLDS_DAYS = {7, 14, 30};
+
     private PriorityCalculator() {}
 
     public static PriorityResult calculate(ClaimType type, BigDecimal amount, LocalDateTime filedDate, ClaimStatus status) {
+        return calculate(type, amount, filedDate, status, LocalDateTime.now());
+    }
+
+    /**
+     * Scores one claim. Counts the claim's age directly instead of building the three cutoffs a
+     * Scorer holds; loops over many claims should reuse a Scorer instead.
+     */
+    public static PriorityResult calculate(ClaimType type, BigDecimal amount, LocalDateTime filedDate, ClaimStatus status,
+                                           LocalDateTime now) {
+        int score = amountAndTypeScore(type, amount) + statusBoost(status);
+
+        // Age-based scoring (older = higher priority), in whole days as the cutoffs below encode
+        if (filedDate != null) {
+            long daysOld = ChronoUnit.DAYS.between(filedDate, now);
+            if (daysOld > 30) {
+                score += 20;
+            } else if (daysOld > 14) {
+                score += 10;
+            } else if (daysOld > 7) {
+                score += 5;
+            }
+        }
+
+        return new PriorityResult(priorityForScore(score), score);
+    }
+
+    /**
+     * Scorer bound to one "now", for scoring many claims in a loop. It allocates nothing per claim.
+     */
+    public static Scorer scorer(LocalDateTime now) {
+        return new Scorer(now);
+    }
+
+    public static String priorityForScore(int score) {
+        return ClaimPriority.forScore(score).name();
+    }
+
+    /**
+     * Claims filed at or before the returned instant are more than {@code days} days old
+     * by the age rule above. Used to feed the SQL mirror of this calculator.
+     */
+    public static LocalDateTime ageCutoff(LocalDateTime now, int days) {
+        return now.minusDays(days + 1L);
+    }
+
+    /**
+     * Next instant at which the age rule changes this claim's score, or null when it has
+     * already crossed the last threshold (or has no filed date).
+     */
+    public static LocalDateTime nextRescoreAt(LocalDateTime filedDate, LocalDateTime now) {
+        if (filedDate == null) {
+            return null;
+        }
+        for (int days : AGE_THRESHOLDS_DAYS) {
+            LocalDateTime crossing = filedDate.plusDays(days + 1L);
+            if (crossing.isAfter(now)) {
+                return crossing;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Status-based boost for claims needing attention. Bound as a parameter by set-based status
+     * updates, where every row moves to the same status.
+     */
+    public static int statusBoost(ClaimStatus status) {
+        return status == ClaimStatus.SUBMITTED || status == ClaimStatus.UNDER_REVIEW ? 10 : 0;
+    }
+
+    private static int amountAndTypeScore(ClaimType type, BigDecimal amount) {
         int score = 0;
 
         // Amount-based scoring
         if (amount != null) {
-            if (amount.compareTo(new BigDecimal("100000")) >= 0) {
+            if (amount.compareTo(AMOUNT_100K) >= 0) {
                 score += 40;
-            } else if (amount.compareTo(new BigDecimal("50000")) >= 0) {
+            } else if (amount.compareTo(AMOUNT_50K) >= 0) {
                 score += 30;
-            } else if (amount.compareTo(new BigDecimal("10000")) >= 0) {
+            } else if (amount.compareTo(AMOUNT_10K) >= 0) {
                 score += 20;
-            } else if (amount.compareTo(new BigDecimal("1000")) >= 0) {
+            } else if (amount.compareTo(AMOUNT_1K) >= 0) {
                 score += 10;
             }
         }
@@ -36,36 +117,41 @@ public final class PriorityCalculator {
                 case AUTO -> score += 5;
             }
         }
+        return score;
+    }
 
-        // Age-based scoring (older = higher priority)
-        if (filedDate != null) {
-            long daysOld = ChronoUnit.DAYS.between(filedDate, LocalDateTime.now());
-            if (daysOld > 30) {
-                score += 20;
-            } else if (daysOld > 14) {
-                score += 10;
-            } else if (daysOld > 7) {
-                score += 5;
-            }
-        }
+    public static final class Scorer {
 
-        // Status-based boost for claims needing attention
-        if (status == ClaimStatus.SUBMITTED || status == ClaimStatus.UNDER_REVIEW) {
-            score += 10;
+        private final LocalDateTime olderThan7;
+        private final LocalDateTime olderThan14;
+        private final LocalDateTime olderThan30;
+
+        private Scorer(LocalDateTime now) {
+            this.olderThan7 = ageCutoff(now, 7);
+            this.olderThan14 = ageCutoff(now, 14);
+            this.olderThan30 = ageCutoff(now, 30);
         }
 
-        String priority;
-        if (score >= 70) {
-            priority = "CRITICAL";
-        } else if (score >= 50) {
-            priority = "HIGH";
-        } else if (score >= 30) {
-            priority = "MEDIUM";
-        } else {
-            priority = "LOW";
+        public int score(ClaimType type, BigDecimal amount, LocalDateTime filedDate, ClaimStatus status) {
+            int score = amountAndTypeScore(type, amount);
+
+            // Age-based scoring (older = higher priority); "more than N days" is filed on or before the cutoff
+            if (filedDate != null) {
+                if (!filedDate.isAfter(olderThan30)) {
+                    score += 20;
+                } else if (!filedDate.isAfter(olderThan14)) {
+                    score += 10;
+                } else if (!filedDate.isAfter(olderThan7)) {
+                    score += 5;
+                }
+            }
+
+            return score + statusBoost(status);
         }
 
-        return new PriorityResult(priority, score);
+        public ClaimPriority priority(ClaimType type, BigDecimal amount, LocalDateTime filedDate, ClaimStatus status) {
+            return ClaimPriority.forScore(score(type, amount, filedDate, status));
+        }
     }
 
     public record PriorityResult(String priority, int score) {}
@@ -2,42 +2,95 @@ package com.poc.claims.service;
 
 import com.poc.claims.dto.RiskSignalResponse;
 import com.poc.claims.dto.RiskSignalResponse.Signal;
-import com.poc.claims.model.Claim;
 import com.poc.claims.repository.ClaimRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class RiskSignalService {
 
+    public static final int MAX_BATCH_SIZE = 100;
+
+    static final int RECENT_WINDOW_DAYS = 90;
+
+    private static final BigDecimal HIGH_VALUE_THRESHOLD = new BigDecimal("100000");
+
+    /**
+     * Per-claim inputs to the risk signals, as computed by ClaimRepository.findRiskInputs.
+     */
+    record RiskInputs(BigDecimal amount,
+                      LocalDate incidentDate,
+                      LocalDateTime filedDate,
+                      BigDecimal typeAverage,
+                      long recentUserClaims,
+                      long totalUserClaims) {}
+
     private final ClaimRepository claimRepository;
 
     public RiskSignalService(ClaimRepository claimRepository) {
         this.claimRepository = claimRepository;
     }
 
+    /**
+     * Assesses every claim in {@code claimIds} with a single query, stamping each result with the
+     * time the inputs were read. Ids that are unknown or belong to another organization are left out.
+     */
     @Transactional(readOnly = true)
-    public RiskSignalResponse assessRisk(Claim claim, UUID orgId) {
+    public Map<UUID, RiskSignalResponse> assessRisks(UUID organizationId, Collection<UUID> claimIds) {
+        if (claimIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalStateException("At most " + MAX_BATCH_SIZE + " claims can be assessed at once");
+        }
+        if (claimIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // Truncated to the column precision so a stored assessment reads back unchanged
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Object[]> rows = claimRepository.findRiskInputs(organizationId, claimIds,
+                now.minusDays(RECENT_WINDOW_DAYS));
+        Map<UUID, RiskSignalResponse> responses = new HashMap<>();
+        for (Object[] row : rows) {
+            RiskSignalResponse response = evaluate(new RiskInputs(
+                    (BigDecimal) row[1],
+                    toLocalDate(row[2]),
+                    toLocalDateTime(row[3]),
+                    (BigDecimal) row[4],
+                    ((Number) row[5]).longValue(),
+                    ((Number) row[6]).longValue()));
+            response.setComputedAt(now);
+            responses.put((UUID) row[0], response);
+        }
+        return responses;
+    }
+
+    static RiskSignalResponse evaluate(RiskInputs inputs) {
         List<Signal> signals = new ArrayList<>();
         int riskScore = 0;
+        BigDecimal amount = inputs.amount();
 
         // Signal 1: High claim amount compared to org average
-        BigDecimal avgAmount = claimRepository.findAverageAmountByOrganizationIdAndType(orgId, claim.getType().name());
-        if (avgAmount != null && claim.getAmount() != null && claim.getAmount().compareTo(avgAmount.multiply(new BigDecimal("2"))) > 0) {
+        BigDecimal avgAmount = inputs.typeAverage();
+        if (avgAmount != null && amount != null && amount.compareTo(avgAmount.multiply(new BigDecimal("2"))) > 0) {
             signals.add(new Signal("HIGH", "Above Average Amount",
                     "Claim amount is more than 2x the average for this type"));
             riskScore += 30;
         }
 
         // Signal 2: Frequent claims by same user in last 90 days
-        long recentUserClaims = claimRepository.countByUserIdAndOrganizationIdAndCreatedAtAfter(
-                claim.getUserId(), orgId, LocalDateTime.now().minusDays(90));
+        long recentUserClaims = inputs.recentUserClaims();
         if (recentUserClaims > 3) {
             signals.add(new Signal("HIGH", "Frequent Claimant",
                     recentUserClaims + " claims filed by this user in the last 90 days"));
@@ -49,16 +102,16 @@ public class RiskSignalService {
         }
 
         // Signal 3: Very high amount (over $100k)
-        if (claim.getAmount() != null && claim.getAmount().compareTo(new BigDecimal("100000")) > 0) {
+        if (amount != null && amount.compareTo(HIGH_VALUE_THRESHOLD) > 0) {
             signals.add(new Signal("HIGH", "High Value Claim",
                     "Claim exceeds $100,000 threshold"));
             riskScore += 20;
         }
 
         // Signal 4: Claims filed very recently after incident
-        if (claim.getIncidentDate() != null && claim.getFiledDate() != null) {
-            long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(
-                    claim.getIncidentDate().atStartOfDay(), claim.getFiledDate());
+        if (inputs.incidentDate() != null && inputs.filedDate() != null) {
+            long daysBetween = ChronoUnit.DAYS.between(
+                    inputs.incidentDate().atStartOfDay(), inputs.filedDate());
             if (daysBetween == 0) {
                 signals.add(new Signal("LOW", "Same-Day Filing",
                         "Claim filed on the same day as the incident"));
@@ -67,7 +120,7 @@ public class RiskSignalService {
         }
 
         // Signal 5: Total lifetime claims by user
-        long totalUserClaims = claimRepository.countByUserIdAndOrganizationId(claim.getUserId(), orgId);
+        long totalUserClaims = inputs.totalUserClaims();
         if (totalUserClaims > 10) {
             signals.add(new Signal("MEDIUM", "High Claim History",
                     totalUserClaims + " total claims from this user"));
@@ -94,4 +147,19 @@ public class RiskSignalService {
         response.setSignals(signals);
         return response;
     }
+
+    // Native queries hand back JDBC date types or java.time depending on driver and dialect
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
 }
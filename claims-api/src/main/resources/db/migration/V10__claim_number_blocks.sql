@@ -0,0 +1,15 @@
+-- V10: Per-year claim number counter. Each node reserves a block of numbers with one UPDATE and
+-- hands them out from memory, replacing the COUNT over the year's claim numbers on every create.
+
+CREATE TABLE claim_number_blocks (
+    claim_year  INT PRIMARY KEY,
+    next_value  BIGINT NOT NULL
+);
+
+-- Continue after the highest number already issued in each year
+INSERT INTO claim_number_blocks (claim_year, next_value)
+SELECT CAST(SUBSTRING(claim_number, 5, 4) AS INT),
+       MAX(CAST(SUBSTRING(claim_number, 10) AS BIGINT)) + 1
+FROM claims
+WHERE claim_number LIKE 'CLM-____-%'
+GROUP BY SUBSTRING(claim_number, 5, 4);
@@ -0,0 +1,6 @@
+-- Timeline reads seek on (timestamp, id) within a claim and read rows in index order, in either
+-- direction, without a sort
+CREATE INDEX idx_claim_events_claim_ts_id ON claim_events (claim_id, timestamp, id);
+
+-- Superseded by idx_claim_events_claim_ts_id, which has claim_id as its leading column
+DROP INDEX idx_claim_events_claim_id;
@@ -0,0 +1,3 @@
+-- Bumped on every write to a claim, by Hibernate (@Version) and by the native bulk UPDATEs;
+-- the claim's ETag is derived from it
+ALTER TABLE claims ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
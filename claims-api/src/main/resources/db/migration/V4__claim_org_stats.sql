@@ -0,0 +1,21 @@
+-- V4: Incrementally maintained per-organization claim counters
+
+-- One row per (organization, status, type); updated in the same transaction as the claim
+CREATE TABLE claim_org_stats (
+    organization_id UUID NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    type            VARCHAR(20) NOT NULL,
+    claim_count     BIGINT NOT NULL DEFAULT 0,
+    amount_total    DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_claim_org_stats PRIMARY KEY (organization_id, status, type)
+);
+
+-- Backfill counters for existing claims
+INSERT INTO claim_org_stats (organization_id, status, type, claim_count, amount_total)
+SELECT organization_id, status, type, COUNT(*), COALESCE(SUM(amount), 0)
+FROM claims
+GROUP BY organization_id, status, type;
+
+-- "Claims this week" is still read from claims; keep it an index range scan
+CREATE INDEX idx_claims_org_created_at ON claims (organization_id, created_at);
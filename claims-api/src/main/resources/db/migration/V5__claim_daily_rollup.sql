@@ -0,0 +1,40 @@
+-- V5: Daily per-organization rollup of filed / approved / denied claims for time-series charts
+
+CREATE TABLE claim_daily_rollup (
+    organization_id UUID NOT NULL,
+    bucket_date     DATE NOT NULL,
+    filed_count     BIGINT NOT NULL DEFAULT 0,
+    filed_amount    DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    approved_count  BIGINT NOT NULL DEFAULT 0,
+    approved_amount DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    denied_count    BIGINT NOT NULL DEFAULT 0,
+    denied_amount   DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_claim_daily_rollup PRIMARY KEY (organization_id, bucket_date)
+);
+
+-- Backfill: filed by filed_date, approved/denied by the day of the matching audit event
+INSERT INTO claim_daily_rollup (organization_id, bucket_date, filed_count, filed_amount,
+                                approved_count, approved_amount, denied_count, denied_amount)
+SELECT organization_id, bucket_date,
+       SUM(filed_count), SUM(filed_amount),
+       SUM(approved_count), SUM(approved_amount),
+       SUM(denied_count), SUM(denied_amount)
+FROM (
+    SELECT c.organization_id, CAST(c.filed_date AS DATE) AS bucket_date,
+           1 AS filed_count, COALESCE(c.amount, 0) AS filed_amount,
+           0 AS approved_count, 0 AS approved_amount, 0 AS denied_count, 0 AS denied_amount
+    FROM claims c
+    WHERE c.filed_date IS NOT NULL
+    UNION ALL
+    SELECT c.organization_id, CAST(e.timestamp AS DATE),
+           0, 0, 1, COALESCE(c.amount, 0), 0, 0
+    FROM claim_events e JOIN claims c ON c.id = e.claim_id
+    WHERE e.event_type = 'APPROVED'
+    UNION ALL
+    SELECT c.organization_id, CAST(e.timestamp AS DATE),
+           0, 0, 0, 0, 1, COALESCE(c.amount, 0)
+    FROM claim_events e JOIN claims c ON c.id = e.claim_id
+    WHERE e.event_type = 'DENIED'
+) src
+GROUP BY organization_id, bucket_date;
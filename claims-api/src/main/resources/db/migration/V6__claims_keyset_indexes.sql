@@ -0,0 +1,7 @@
+-- Keyset pagination seeks on (created_at, id) within an organization, optionally narrowed by
+-- status, and reads rows in index order without a sort or a COUNT(*)
+CREATE INDEX idx_claims_org_status_created_id ON claims (organization_id, status, created_at, id);
+CREATE INDEX idx_claims_org_created_id ON claims (organization_id, created_at, id);
+
+-- Superseded by idx_claims_org_created_id, which serves the same range scans
+DROP INDEX idx_claims_org_created_at;
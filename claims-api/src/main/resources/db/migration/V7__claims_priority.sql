@@ -0,0 +1,32 @@
+-- V7: Persist claim priority so the database can sort and filter by it
+
+-- priority_rescore_at is the next instant the age rule moves the score (filed date + 8, 15 or
+-- 31 days); NULL once no threshold is left to cross. The rescoring job only touches due rows.
+ALTER TABLE claims ADD COLUMN priority VARCHAR(10) NOT NULL DEFAULT 'LOW';
+ALTER TABLE claims ADD COLUMN priority_score INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE claims ADD COLUMN priority_rescore_at TIMESTAMP;
+
+-- Backfill with the same rules as PriorityCalculator (see ClaimRepository.PRIORITY_SCORE_SQL)
+UPDATE claims c SET priority_score =
+    (CASE WHEN c.amount >= 100000 THEN 40 WHEN c.amount >= 50000 THEN 30
+          WHEN c.amount >= 10000 THEN 20 WHEN c.amount >= 1000 THEN 10 ELSE 0 END)
+  + (CASE c.type WHEN 'LIABILITY' THEN 20 WHEN 'PROPERTY' THEN 15
+          WHEN 'HEALTH' THEN 10 WHEN 'AUTO' THEN 5 ELSE 0 END)
+  + (CASE WHEN c.filed_date <= CURRENT_TIMESTAMP - INTERVAL '31' DAY THEN 20
+          WHEN c.filed_date <= CURRENT_TIMESTAMP - INTERVAL '15' DAY THEN 10
+          WHEN c.filed_date <= CURRENT_TIMESTAMP - INTERVAL '8' DAY THEN 5 ELSE 0 END)
+  + (CASE WHEN c.status IN ('SUBMITTED', 'UNDER_REVIEW') THEN 10 ELSE 0 END),
+  priority_rescore_at =
+    CASE WHEN c.filed_date IS NULL THEN NULL
+         WHEN c.filed_date > CURRENT_TIMESTAMP - INTERVAL '8' DAY THEN c.filed_date + INTERVAL '8' DAY
+         WHEN c.filed_date > CURRENT_TIMESTAMP - INTERVAL '15' DAY THEN c.filed_date + INTERVAL '15' DAY
+         WHEN c.filed_date > CURRENT_TIMESTAMP - INTERVAL '31' DAY THEN c.filed_date + INTERVAL '31' DAY
+         ELSE NULL END;
+
+UPDATE claims SET priority =
+    CASE WHEN priority_score >= 70 THEN 'CRITICAL' WHEN priority_score >= 50 THEN 'HIGH'
+         WHEN priority_score >= 30 THEN 'MEDIUM' ELSE 'LOW' END;
+
+-- ?sort=priority within an organization is an index scan (backwards for highest first)
+CREATE INDEX idx_claims_org_priority ON claims (organization_id, priority_score, created_at);
+CREATE INDEX idx_claims_priority_rescore_at ON claims (priority_rescore_at);
@@ -0,0 +1,4 @@
+-- Risk signal inputs: per-user claim counts (all-time and recent) and per-type amount averages
+-- within an organization, both answered from the index without touching the table
+CREATE INDEX idx_claims_org_user_created ON claims (organization_id, user_id, created_at);
+CREATE INDEX idx_claims_org_type_amount ON claims (organization_id, type, amount);
@@ -0,0 +1,11 @@
+-- V9: Persisted risk assessments, computed at submit time and refreshed when their inputs change
+
+CREATE TABLE claim_risk_assessments (
+    claim_id        UUID PRIMARY KEY,
+    organization_id UUID NOT NULL,
+    overall_risk    VARCHAR(10) NOT NULL,
+    risk_score      INT NOT NULL,
+    signals         TEXT NOT NULL,
+    computed_at     TIMESTAMP NOT NULL,
+    CONSTRAINT fk_claim_risk_assessments_claim FOREIGN KEY (claim_id) REFERENCES claims(id)
+);
@@ -0,0 +1,151 @@
+package com.poc.claims.auth;
+
+import com.poc.claims.ClaimsApplication;
+import com.poc.claims.TestSecurityConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives PKCE callbacks (token exchange + online introspection) against a local IdP stub that
+ * answers every call after {@link #IDP_DELAY}, once with platform request threads and once with
+ * virtual threads, and checks callback throughput and how long /api/health waits meanwhile. The
+ * measured numbers go into the assertion messages.
+ *
+ * Run with ./gradlew loadTest; it is excluded from the regular test task.
+ */
+@Tag("load")
+class SlowIdpLoadTest {
+
+    private static final Duration IDP_DELAY = Duration.ofMillis(300);
+    private static final int CALLBACKS = 400;
+    private static final int PLATFORM_THREADS = 50;
+
+    private static HttpServer idp;
+    private static ExecutorService idpExecutor;
+
+    @BeforeAll
+    static void startIdp() throws IOException {
+        idp = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        idpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        idp.setExecutor(idpExecutor);
+        idp.createContext("/realms/load/protocol/openid-connect/token", exchange ->
+                slowJson(exchange, "{\"access_token\":\"opaque-token\",\"expires_in\":300}"));
+        idp.createContext("/realms/load/protocol/openid-connect/token/introspect", exchange ->
+                slowJson(exchange, "{\"active\":true,\"email\":\"load@example.com\",\"sub\":\"load-user\"}"));
+        idp.start();
+    }
+
+    @AfterAll
+    static void stopIdp() {
+        idp.stop(0);
+        idpExecutor.close();
+    }
+
+    @Test
+    void virtualThreads_shouldKeepServingWhileIdpIsSlow() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        String results = "IdP delay %d ms per call, %d callbacks; platform (%d request threads): %s; virtual: %s"
+                .formatted(IDP_DELAY.toMillis(), CALLBACKS, PLATFORM_THREADS, platform, virtual);
+
+        assertThat(platform.failures()).as(results).isZero();
+        assertThat(virtual.failures()).as(results).isZero();
+        assertThat(virtual.callbacksPerSecond()).as(results).isGreaterThan(platform.callbacksPerSecond() * 2);
+        assertThat(virtual.healthMillis()).as(results).isLessThan(IDP_DELAY.toMillis());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String issuer = "http://localhost:" + idp.getAddress().getPort() + "/realms/load";
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(ClaimsApplication.class, TestSecurityConfig.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer)
+                .run();
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            URI callback = URI.create("http://localhost:" + port + "/api/auth/pkce-callback");
+            URI health = URI.create("http://localhost:" + port + "/api/health");
+            String body = "{\"authorizationCode\":\"code\",\"codeVerifier\":\"verifier\"," +
+                    "\"strategy\":\"introspection-vanilla\",\"redirectUri\":\"http://localhost:3000/callback\"}";
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> callbacks = new ArrayList<>(CALLBACKS);
+            for (int i = 0; i < CALLBACKS; i++) {
+                callbacks.add(client.sendAsync(HttpRequest.newBuilder(callback)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.ofString()));
+            }
+
+            // Give the callbacks a head start so they occupy the request threads first
+            Thread.sleep(IDP_DELAY.toMillis() / 2);
+            long healthStart = System.nanoTime();
+            client.send(HttpRequest.newBuilder(health).build(), HttpResponse.BodyHandlers.discarding());
+            long healthMillis = (System.nanoTime() - healthStart) / 1_000_000;
+
+            long failures = 0;
+            for (CompletableFuture<HttpResponse<String>> future : callbacks) {
+                HttpResponse<String> response = future.join();
+                if (response.statusCode() != 200 || !response.body().contains("\"success\":true")) {
+                    failures++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return new Result(CALLBACKS / seconds, healthMillis, failures);
+        }
+    }
+
+    private static void slowJson(HttpExchange exchange, String json) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(IDP_DELAY.toMillis());
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private record Result(double callbacksPerSecond, long healthMillis, long failures) {
+        @Override
+        public String toString() {
+            return String.format("%.1f callbacks/s, /api/health answered in %d ms, %d failures",
+                    callbacksPerSecond, healthMillis, failures);
+        }
+    }
+}
@@ -136,6 +136,116 @@ class ClaimControllerTest {
             .andExpect(jsonPath("$.totalElements").isNumber());
     }
 
+    @Test
+    void listClaims_summaryView_shouldTruncateDescription() throws Exception {
+        CreateClaimRequest req = new CreateClaimRequest();
+        req.setType(ClaimType.PROPERTY);
+        req.setAmount(new BigDecimal("60000.00"));
+        req.setDescription("x".repeat(500));
+
+        mockMvc.perform(post("/api/claims")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/claims")
+                .param("view", "summary")
+                .param("sort", "createdAt,desc")
+                .param("size", "1")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].descriptionPreview", hasLength(140)))
+            .andExpect(jsonPath("$.content[0].description").doesNotExist())
+            .andExpect(jsonPath("$.content[0].priority").isNotEmpty())
+            .andExpect(jsonPath("$.totalElements").isNumber());
+    }
+
+    @Test
+    void listClaims_shouldSortByPriorityScore() throws Exception {
+        for (String amount : List.of("500.00", "150000.00")) {
+            CreateClaimRequest req = new CreateClaimRequest();
+            req.setType(ClaimType.LIABILITY);
+            req.setAmount(new BigDecimal(amount));
+            mockMvc.perform(post("/api/claims")
+                    .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                    .header("X-Organization-Id", ORG_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated());
+        }
+
+        String body = mockMvc.perform(get("/api/claims")
+                .param("sort", "priority,desc")
+                .param("size", "100")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        List<Integer> scores = new ArrayList<>();
+        objectMapper.readTree(body).get("content").forEach(c -> scores.add(c.get("priorityScore").asInt()));
+        org.assertj.core.api.Assertions.assertThat(scores)
+            .isNotEmpty()
+            .isSortedAccordingTo(Comparator.<Integer>reverseOrder());
+    }
+
+    @Test
+    void listClaims_cursorMode_shouldWalkAllPagesWithoutDuplicates() throws Exception {
+        Set<String> created = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            CreateClaimRequest req = new CreateClaimRequest();
+            req.setType(ClaimType.AUTO);
+            req.setAmount(new BigDecimal("100.00"));
+            MvcResult result = mockMvc.perform(post("/api/claims")
+                    .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                    .header("X-Organization-Id", ORG_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+            created.add(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText());
+        }
+
+        List<String> seen = new ArrayList<>();
+        List<String> createdAts = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/claims")
+                .param("mode", "cursor")
+                .param("size", "2")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID);
+            if (cursor != null) request.param("cursor", cursor);
+
+            var page = objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(lessThanOrEqualTo(2))))
+                .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> {
+                seen.add(item.get("id").asText());
+                createdAts.add(item.get("createdAt").asText());
+            });
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        org.assertj.core.api.Assertions.assertThat(seen).doesNotHaveDuplicates().containsAll(created);
+        org.assertj.core.api.Assertions.assertThat(createdAts)
+            .isSortedAccordingTo(Comparator.<String>naturalOrder().reversed());
+    }
+
+    @Test
+    void listClaims_cursorMode_shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/claims")
+                .param("mode", "cursor")
+                .param("cursor", "not-a-cursor")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateClaim_shouldOnlyWorkForDraft() throws Exception {
         // Create a claim
@@ -246,6 +356,47 @@ class ClaimControllerTest {
             .andExpect(jsonPath("$.claimsByPriority").isMap());
     }
 
+    @Test
+    void rebuildStats_shouldMatchIncrementallyMaintainedCounters() throws Exception {
+        // A fresh org has no cached stats, so the first read is computed from the counters
+        // rather than served stale while a background refresh runs
+        String orgId = UUID.randomUUID().toString();
+        CreateClaimRequest req = new CreateClaimRequest();
+        req.setType(ClaimType.PROPERTY);
+        req.setAmount(new BigDecimal("1200.00"));
+
+        MvcResult result = mockMvc.perform(post("/api/claims")
+                .with(jwt().jwt(buildJwt(USER_ID, orgId, List.of("admin"))))
+                .header("X-Organization-Id", orgId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        String claimId = objectMapper.readTree(result.getResponse().getContentAsString())
+            .get("id").asText();
+
+        mockMvc.perform(post("/api/claims/" + claimId + "/submit")
+                .with(jwt().jwt(buildJwt(USER_ID, orgId, List.of("admin"))))
+                .header("X-Organization-Id", orgId))
+            .andExpect(status().isOk());
+
+        String incremental = mockMvc.perform(get("/api/claims/stats")
+                .with(jwt().jwt(buildJwt(USER_ID, orgId, List.of("admin"))))
+                .header("X-Organization-Id", orgId))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        String rebuilt = mockMvc.perform(post("/api/claims/stats/rebuild")
+                .with(jwt().jwt(buildJwt(USER_ID, orgId, List.of("admin"))))
+                .header("X-Organization-Id", orgId))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        org.assertj.core.api.Assertions.assertThat(objectMapper.readTree(rebuilt))
+            .isEqualTo(objectMapper.readTree(incremental));
+    }
+
     @Test
     void getNotes_shouldReturnEmptyList() throws Exception {
         // Create a claim
@@ -323,6 +474,642 @@ class ClaimControllerTest {
             .andExpect(jsonPath("$.priorityScore").isNumber());
     }
 
+    @Test
+    void riskSignalsBatch_shouldMatchSingleClaimAssessment() throws Exception {
+        String claimantId = UUID.randomUUID().toString();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            CreateClaimRequest req = new CreateClaimRequest();
+            req.setType(ClaimType.LIABILITY);
+            req.setAmount(new BigDecimal("150000.00"));
+            MvcResult result = mockMvc.perform(post("/api/claims")
+                    .with(jwt().jwt(buildJwt(claimantId, ORG_ID, List.of("admin"))))
+                    .header("X-Organization-Id", ORG_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+            ids.add(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText());
+        }
+        String unknownId = UUID.randomUUID().toString();
+
+        var batch = objectMapper.readTree(mockMvc.perform(post("/api/claims/risk-signals:batch")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("claimIds", List.of(ids.get(0), unknownId, ids.get(1))))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+
+        org.assertj.core.api.Assertions.assertThat(batch.fieldNames()).toIterable().containsExactlyElementsOf(ids);
+        for (String id : ids) {
+            var single = objectMapper.readTree(mockMvc.perform(get("/api/claims/" + id + "/risk-signals")
+                    .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                    .header("X-Organization-Id", ORG_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+            // computedAt is left out: an after-commit refresh may legitimately land between the two reads
+            org.assertj.core.api.Assertions.assertThat(batch.get(id).get("riskScore")).isEqualTo(single.get("riskScore"));
+            org.assertj.core.api.Assertions.assertThat(batch.get(id).get("signals")).isEqualTo(single.get("signals"));
+            org.assertj.core.api.Assertions.assertThat(single.findValuesAsText("label"))
+                .contains("Multiple Recent Claims", "High Value Claim");
+        }
+    }
+
+    @Test
+    void riskSignals_shouldBeStoredAtSubmitAndRefreshedWhenInputsChange() throws Exception {
+        String claimantId = UUID.randomUUID().toString();
+        String claimId = createClaimFor(claimantId, ClaimType.PROPERTY, "5000.00");
+        mockMvc.perform(post("/api/claims/" + claimId + "/submit")
+                .with(jwt().jwt(buildJwt(claimantId, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk());
+
+        String computedAt = getRiskSignals(claimId).get("computedAt").asText();
+        org.assertj.core.api.Assertions.assertThat(computedAt).isNotBlank();
+        org.assertj.core.api.Assertions.assertThat(getRiskSignals(claimId).get("computedAt").asText()).isEqualTo(computedAt);
+
+        // A second claim by the same user changes the user's claim counts; the refresh runs after commit
+        createClaimFor(claimantId, ClaimType.AUTO, "100.00");
+        long deadline = System.currentTimeMillis() + 5_000;
+        var refreshed = getRiskSignals(claimId);
+        while (refreshed.get("computedAt").asText().equals(computedAt) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            refreshed = getRiskSignals(claimId);
+        }
+        org.assertj.core.api.Assertions.assertThat(refreshed.get("computedAt").asText()).isNotEqualTo(computedAt);
+        org.assertj.core.api.Assertions.assertThat(refreshed.findValuesAsText("label")).contains("Multiple Recent Claims");
+    }
+
+    @Test
+    void riskSignalsBatch_shouldRejectEmptyRequest() throws Exception {
+        mockMvc.perform(post("/api/claims/risk-signals:batch")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"claimIds\": []}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkCreate_shouldCreateNdjsonItemsAndReportFailuresPerItem() throws Exception {
+        String body = """
+            {"type":"AUTO","amount":1200.00,"description":"bulk one"}
+            {"type":"AUTO","amount":-5}
+            {"type":"BOAT"}
+            {"type":"HEALTH","amount":300.00}
+            """;
+
+        var response = objectMapper.readTree(mockMvc.perform(post("/api/claims:bulk")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.failed").value(2))
+            .andExpect(jsonPath("$.rowsPerSecond").isNumber())
+            .andExpect(jsonPath("$.results[*].index", contains(0, 1, 2, 3)))
+            .andExpect(jsonPath("$.results[*].status", contains("CREATED", "FAILED", "FAILED", "CREATED")))
+            .andExpect(jsonPath("$.results[1].error").value(containsString("positive")))
+            .andExpect(jsonPath("$.results[3].claimNumber", matchesPattern("CLM-\\d{4}-\\d{5}")))
+            .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/claims/" + response.at("/results/0/id").asText())
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("bulk one"))
+            .andExpect(jsonPath("$.status").value("DRAFT"));
+        mockMvc.perform(get("/api/claims/" + response.at("/results/0/id").asText() + "/events")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].eventType").value("CREATED"));
+    }
+
+    @Test
+    void bulkCreate_shouldAcceptJsonArrayWithUniqueClaimNumbers() throws Exception {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(Map.of("type", "PROPERTY", "amount", 100 + i));
+        }
+
+        var response = objectMapper.readTree(mockMvc.perform(post("/api/claims:bulk")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(items)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(20))
+            .andExpect(jsonPath("$.failed").value(0))
+            .andReturn().getResponse().getContentAsString());
+
+        org.assertj.core.api.Assertions.assertThat(response.get("results").findValuesAsText("claimNumber"))
+            .hasSize(20)
+            .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void bulkCreate_shouldRejectNonAdmin() throws Exception {
+        mockMvc.perform(post("/api/claims:bulk")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("viewer"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"type\":\"AUTO\"}]"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void bulkTransition_shouldMoveValidClaimsAndReportFailuresPerId() throws Exception {
+        String first = submittedClaim(ClaimType.PROPERTY, "60000.00");
+        String draft = createClaimFor(USER_ID, ClaimType.AUTO, "500.00");
+        String unknown = UUID.randomUUID().toString();
+        String second = submittedClaim(ClaimType.AUTO, "800.00");
+
+        mockMvc.perform(post("/api/claims:transition")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                    "target", "UNDER_REVIEW",
+                    "claimIds", List.of(first, draft, unknown, second, first)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transitioned").value(2))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.results[*].id", contains(first, draft, unknown, second, first)))
+            .andExpect(jsonPath("$.results[*].status",
+                contains("TRANSITIONED", "FAILED", "FAILED", "TRANSITIONED", "FAILED")))
+            .andExpect(jsonPath("$.results[1].error").value("Can only review claims in SUBMITTED status"))
+            .andExpect(jsonPath("$.results[2].error").value("Claim not found"))
+            .andExpect(jsonPath("$.results[4].error").value("Can only review claims in SUBMITTED status"));
+
+        // 30 (amount) + 15 (PROPERTY) + 10 (needs attention)
+        mockMvc.perform(get("/api/claims/" + first)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UNDER_REVIEW"))
+            .andExpect(jsonPath("$.priorityScore").value(55))
+            .andExpect(jsonPath("$.priority").value("HIGH"));
+        mockMvc.perform(get("/api/claims/" + first + "/events")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].eventType", hasItem("REVIEWED")));
+        mockMvc.perform(get("/api/claims/" + draft)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(jsonPath("$.status").value("DRAFT"));
+    }
+
+    @Test
+    void bulkTransition_shouldLetBillingApproveAndRescore() throws Exception {
+        String claimId = submittedClaim(ClaimType.PROPERTY, "60000.00");
+        mockMvc.perform(post("/api/claims/" + claimId + "/review")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/claims:transition")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("billing"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("target", "APPROVED", "claimIds", List.of(claimId)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transitioned").value(1));
+
+        // The status boost drops away once the claim leaves review
+        mockMvc.perform(get("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(jsonPath("$.status").value("APPROVED"))
+            .andExpect(jsonPath("$.priorityScore").value(45))
+            .andExpect(jsonPath("$.priority").value("MEDIUM"));
+    }
+
+    @Test
+    void bulkTransition_shouldApplyRoleRulesToWholeRequest() throws Exception {
+        String claimId = submittedClaim(ClaimType.AUTO, "700.00");
+
+        mockMvc.perform(post("/api/claims:transition")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("billing"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("target", "DENIED", "claimIds", List.of(claimId)))))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/claims:transition")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("target", "DRAFT", "claimIds", List.of(claimId)))))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/claims:transition")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"target\": \"CLOSED\", \"claimIds\": []}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void claimEvents_shouldPageTimelineInEitherDirection() throws Exception {
+        String claimId = submittedClaim(ClaimType.AUTO, "900.00");
+        mockMvc.perform(post("/api/claims/" + claimId + "/review")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/claims/" + claimId + "/approve")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk());
+
+        MvcResult first = mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("limit", "3")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Next-Cursor"))
+            .andExpect(jsonPath("$[*].eventType", contains("CREATED", "SUBMITTED", "REVIEWED")))
+            .andReturn();
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("limit", "3")
+                .param("after", first.getResponse().getHeader("X-Next-Cursor"))
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
+            .andExpect(jsonPath("$[*].eventType", contains("APPROVED")));
+
+        MvcResult newest = mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("limit", "2")
+                .param("direction", "desc")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].eventType", contains("APPROVED", "REVIEWED")))
+            .andReturn();
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("limit", "2")
+                .param("direction", "desc")
+                .param("after", newest.getResponse().getHeader("X-Next-Cursor"))
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
+            .andExpect(jsonPath("$[*].eventType", contains("SUBMITTED", "CREATED")));
+
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("direction", "sideways")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getClaim_shouldHonourIfNoneMatchAndUpdateShouldHonourIfMatch() throws Exception {
+        String claimId = createClaimFor(USER_ID, ClaimType.PROPERTY, "750.00");
+
+        String eTag = mockMvc.perform(get("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag))
+            .andExpect(content().string(""));
+
+        UpdateClaimRequest updateReq = new UpdateClaimRequest();
+        updateReq.setDescription("Roof damage");
+        String updatedETag = mockMvc.perform(put("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateReq)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(eTag)))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // A second writer still holding the old ETag is refused
+        mockMvc.perform(put("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateReq)))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", updatedETag))
+            .andExpect(jsonPath("$.description").value("Roof damage"));
+    }
+
+    @Test
+    void transitions_shouldCheckStatusInTheUpdateAndRescoreTheRow() throws Exception {
+        String claimId = createClaimFor(USER_ID, ClaimType.LIABILITY, "60000.00");
+        String created = mockMvc.perform(get("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andReturn().getResponse().getHeader("ETag");
+        long createdVersion = Long.parseLong(created.replace("\"", ""));
+
+        // 30 (amount) + 20 (LIABILITY) + 10 (needs attention)
+        mockMvc.perform(post("/api/claims/" + claimId + "/submit")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("SUBMITTED"))
+            .andExpect(jsonPath("$.priorityScore").value(60))
+            .andExpect(jsonPath("$.priority").value("HIGH"));
+        mockMvc.perform(get("/api/claims/" + claimId)
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(header().string("ETag", "\"" + (createdVersion + 1) + "\""));
+
+        mockMvc.perform(post("/api/claims/" + claimId + "/submit")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/claims/" + claimId + "/approve")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/claims/" + UUID.randomUUID() + "/review")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void claimEvents_shouldReturn304UntilANewEventIsWritten() throws Exception {
+        String claimId = submittedClaim(ClaimType.AUTO, "300.00");
+
+        String eTag = mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/claims/" + claimId + "/review")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(eTag)))
+            .andExpect(jsonPath("$[*].eventType", contains("CREATED", "SUBMITTED", "REVIEWED")));
+    }
+
+    @Test
+    void claimEvents_shouldTagListAndEveryPageWithNewestEvent() throws Exception {
+        String claimId = submittedClaim(ClaimType.AUTO, "300.00");
+
+        String newestId = objectMapper.readTree(mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("direction", "desc")
+                .param("limit", "1")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString()).get(0).get("id").asText();
+        String eTag = "\"" + newestId + "\"";
+
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("direction", "desc")
+                .param("limit", "1")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(get("/api/claims/" + claimId + "/events")
+                .param("limit", "1")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", eTag))
+            .andExpect(jsonPath("$[0].eventType").value("CREATED"));
+    }
+
+    @Test
+    void claimDetail_shouldCombineRequestedParts() throws Exception {
+        String claimId = submittedClaim(ClaimType.HEALTH, "4200.00");
+        mockMvc.perform(post("/api/claims/" + claimId + "/notes")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\": \"Called the claimant\"}"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/claims/" + claimId + "/detail")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.claim.id").value(claimId))
+            .andExpect(jsonPath("$.claim.status").value("SUBMITTED"))
+            .andExpect(jsonPath("$.events[*].eventType", contains("CREATED", "SUBMITTED")))
+            .andExpect(jsonPath("$.notes[0].content").value("Called the claimant"))
+            .andExpect(jsonPath("$.attachments", hasSize(0)))
+            .andExpect(jsonPath("$.riskSignals.overallRisk").isNotEmpty());
+
+        mockMvc.perform(get("/api/claims/" + claimId + "/detail")
+                .param("include", "events,risk")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events", hasSize(2)))
+            .andExpect(jsonPath("$.riskSignals").exists())
+            .andExpect(jsonPath("$.notes").doesNotExist())
+            .andExpect(jsonPath("$.attachments").doesNotExist());
+    }
+
+    @Test
+    void claimDetail_shouldRejectUnknownPartsAndOtherOrgs() throws Exception {
+        String claimId = createClaimFor(USER_ID, ClaimType.AUTO, "100.00");
+
+        mockMvc.perform(get("/api/claims/" + claimId + "/detail")
+                .param("include", "events,payments")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isBadRequest());
+
+        String otherOrg = "00000000-0000-0000-0000-000000000002";
+        mockMvc.perform(get("/api/claims/" + claimId + "/detail")
+                .with(jwt().jwt(buildJwt(USER_ID, otherOrg, List.of("admin"))))
+                .header("X-Organization-Id", otherOrg))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void exportClaims_shouldStreamCsvAndNdjson() throws Exception {
+        CreateClaimRequest req = new CreateClaimRequest();
+        req.setType(ClaimType.HEALTH);
+        req.setAmount(new BigDecimal("640.50"));
+
+        MvcResult created = mockMvc.perform(post("/api/claims")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        String claimNumber = objectMapper.readTree(created.getResponse().getContentAsString())
+            .get("claimNumber").asText();
+
+        String csv = mockMvc.perform(get("/api/claims/export")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", startsWith("text/csv")))
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andReturn().getResponse().getContentAsString();
+        org.assertj.core.api.Assertions.assertThat(csv.lines().findFirst())
+            .hasValue("Claim Number,Type,Status,Amount,Incident Date,Filed Date,Priority");
+        org.assertj.core.api.Assertions.assertThat(csv)
+            .contains(claimNumber + ",HEALTH,DRAFT,640.50,,");
+
+        String ndjson = mockMvc.perform(get("/api/claims/export")
+                .param("format", "ndjson")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", startsWith("application/x-ndjson")))
+            .andReturn().getResponse().getContentAsString();
+        List<String> lines = ndjson.lines().toList();
+        org.assertj.core.api.Assertions.assertThat(lines).hasSize((int) csv.lines().count() - 1);
+        org.assertj.core.api.Assertions.assertThat(lines)
+            .anySatisfy(line -> org.assertj.core.api.Assertions.assertThat(
+                objectMapper.readTree(line).get("claimNumber").asText()).isEqualTo(claimNumber));
+    }
+
+    @Test
+    void exportClaims_shouldGzipWhenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/claims/export")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .header("Accept-Encoding", "br, gzip;q=0.8"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn();
+
+        try (var in = new java.util.zip.GZIPInputStream(
+                new java.io.ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String csv = new String(in.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            org.assertj.core.api.Assertions.assertThat(csv)
+                .startsWith("Claim Number,Type,Status,Amount,Incident Date,Filed Date,Priority\n");
+        }
+    }
+
+    @Test
+    void exportClaims_shouldWriteTypedArrowColumns() throws Exception {
+        CreateClaimRequest req = new CreateClaimRequest();
+        req.setType(ClaimType.PROPERTY);
+        req.setAmount(new BigDecimal("1234.56"));
+        req.setIncidentDate(LocalDate.of(2026, 2, 14));
+
+        MvcResult created = mockMvc.perform(post("/api/claims")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        String claimNumber = objectMapper.readTree(created.getResponse().getContentAsString())
+            .get("claimNumber").asText();
+
+        byte[] body = mockMvc.perform(get("/api/claims/export")
+                .param("format", "arrow")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/vnd.apache.arrow.stream"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        boolean found = false;
+        try (var allocator = new org.apache.arrow.memory.RootAllocator();
+             var reader = new org.apache.arrow.vector.ipc.ArrowStreamReader(
+                 new java.io.ByteArrayInputStream(body), allocator)) {
+            var root = reader.getVectorSchemaRoot();
+            while (reader.loadNextBatch()) {
+                var numbers = (org.apache.arrow.vector.VarCharVector) root.getVector("claim_number");
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    if (claimNumber.equals(new String(numbers.get(i), java.nio.charset.StandardCharsets.UTF_8))) {
+                        found = true;
+                        org.assertj.core.api.Assertions.assertThat(
+                                ((org.apache.arrow.vector.DecimalVector) root.getVector("amount")).getObject(i))
+                            .isEqualByComparingTo("1234.56");
+                        org.assertj.core.api.Assertions.assertThat(
+                                ((org.apache.arrow.vector.DateDayVector) root.getVector("incident_date")).get(i))
+                            .isEqualTo((int) LocalDate.of(2026, 2, 14).toEpochDay());
+                    }
+                }
+            }
+        }
+        org.assertj.core.api.Assertions.assertThat(found).isTrue();
+    }
+
+    @Test
+    void exportClaims_shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/claims/export")
+                .param("format", "xlsx")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isBadRequest());
+    }
+
+    private String createClaimFor(String userId, ClaimType type, String amount) throws Exception {
+        CreateClaimRequest req = new CreateClaimRequest();
+        req.setType(type);
+        req.setAmount(new BigDecimal(amount));
+        MvcResult result = mockMvc.perform(post("/api/claims")
+                .with(jwt().jwt(buildJwt(userId, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String submittedClaim(ClaimType type, String amount) throws Exception {
+        String claimId = createClaimFor(USER_ID, type, amount);
+        mockMvc.perform(post("/api/claims/" + claimId + "/submit")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk());
+        return claimId;
+    }
+
+    private com.fasterxml.jackson.databind.JsonNode getRiskSignals(String claimId) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/api/claims/" + claimId + "/risk-signals")
+                .with(jwt().jwt(buildJwt(USER_ID, ORG_ID, List.of("admin"))))
+                .header("X-Organization-Id", ORG_ID))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+    }
+
     private org.springframework.security.oauth2.jwt.Jwt buildJwt(String sub, String orgId, List<String> roles) {
         Map<String, Object> orgData = new HashMap<>();
         orgData.put("name", "test-org");
@@ -0,0 +1,120 @@
+package com.poc.claims.service;
+
+import com.poc.claims.model.ClaimEvent;
+import com.poc.claims.model.EventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimEventWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new ClaimEventWriter(jdbcTemplate, entityManager, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void append_shouldWriteAllEventsOfTransactionAsOneBatchBeforeCommit() {
+        writer.append(event(EventType.CREATED));
+        writer.append(event(EventType.SUBMITTED));
+        writer.append(event(EventType.REVIEWED));
+
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(pending()).isEqualTo(3.0);
+
+        commit();
+
+        ArgumentCaptor<Collection<ClaimEvent>> batch = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(ClaimEventWriter.INSERT_SQL), batch.capture(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batch.getValue()).extracting(ClaimEvent::getEventType)
+            .containsExactly(EventType.CREATED, EventType.SUBMITTED, EventType.REVIEWED);
+        assertThat(batch.getValue()).allSatisfy(event -> {
+            assertThat(event.getId()).isNotNull();
+            assertThat(event.getTimestamp()).isNotNull();
+        });
+        assertThat(pending()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("claims.events.batch.size").summary().max()).isEqualTo(3.0);
+    }
+
+    @Test
+    void append_shouldDropEventsWhenTransactionRollsBack() {
+        writer.append(event(EventType.CREATED));
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(pending()).isEqualTo(0.0);
+        assertThat(TransactionSynchronizationManager.getResource(writer)).isNull();
+    }
+
+    @Test
+    void append_shouldRejectCallsOutsideTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThatThrownBy(() -> writer.append(event(EventType.CREATED)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void commit() {
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private double pending() {
+        return meterRegistry.get("claims.events.pending").gauge().value();
+    }
+
+    private static ClaimEvent event(EventType type) {
+        ClaimEvent event = new ClaimEvent();
+        event.setClaimId(UUID.randomUUID());
+        event.setActorUserId(UUID.randomUUID());
+        event.setEventType(type);
+        return event;
+    }
+}
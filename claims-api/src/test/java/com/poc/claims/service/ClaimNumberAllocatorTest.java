@@ -0,0 +1,172 @@
+package com.poc.claims.service;
+
+import com.poc.claims.repository.ClaimNumberBlockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimNumberAllocatorTest {
+
+    @Mock
+    private ClaimNumberBlockRepository blockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Stand-in for the claim_number_blocks table
+    private final Map<Integer, Long> counters = new HashMap<>();
+
+    private ClaimNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(inv -> counters.putIfAbsent(inv.getArgument(0), 1L))
+            .when(blockRepository).insertIfAbsent(anyInt());
+        lenient().when(blockRepository.advance(anyInt(), anyInt()))
+            .thenAnswer(inv -> {
+                counters.merge(inv.getArgument(0), (long) (int) inv.getArgument(1), Long::sum);
+                return 1;
+            });
+        lenient().when(blockRepository.findNextValue(anyInt()))
+            .thenAnswer(inv -> counters.get((int) inv.getArgument(0)));
+
+        allocator = new ClaimNumberAllocator(blockRepository, transactionManager, 3);
+    }
+
+    @Test
+    void next_shouldFormatAndIncrementWithinBlock() {
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00001");
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00002");
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00003");
+
+        verify(blockRepository, times(1)).advance(2026, 3);
+    }
+
+    @Test
+    void next_shouldReserveNewBlockWhenExhausted() {
+        for (int i = 0; i < 3; i++) {
+            allocator.next(2026);
+        }
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00004");
+
+        verify(blockRepository, times(2)).advance(2026, 3);
+    }
+
+    @Test
+    void next_shouldContinueAfterExistingCounter() {
+        counters.put(2026, 43L);
+
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00043");
+    }
+
+    @Test
+    void next_shouldRollOverAtYearChange() {
+        allocator.next(2026);
+        allocator.next(2026);
+
+        assertThat(allocator.next(2027)).isEqualTo("CLM-2027-00001");
+        assertThat(allocator.next(2027)).isEqualTo("CLM-2027-00002");
+    }
+
+    @Test
+    void nextBlock_shouldReserveWholeRangeWithoutTouchingSharedBlock() {
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00001");
+
+        assertThat(allocator.nextBlock(2026, 5))
+            .containsExactly("CLM-2026-00004", "CLM-2026-00005", "CLM-2026-00006", "CLM-2026-00007", "CLM-2026-00008");
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00002");
+        verify(blockRepository).advance(2026, 5);
+    }
+
+    @Test
+    void next_shouldNeverRepeatUnderConcurrentCalls() throws Exception {
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        issued.add(allocator.next(2026));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(issued).hasSize(800);
+    }
+
+    @Test
+    void next_shouldLetWaitersShareOneReservationInFlight() throws Exception {
+        CountDownLatch reserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(blockRepository.advance(anyInt(), anyInt()))
+            .thenAnswer(inv -> {
+                reserving.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                counters.merge(inv.getArgument(0), (long) (int) inv.getArgument(1), Long::sum);
+                return 1;
+            });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> allocator.next(2026)));
+            assertThat(reserving.await(5, TimeUnit.SECONDS)).isTrue();
+            futures.add(executor.submit(() -> allocator.next(2026)));
+            futures.add(executor.submit(() -> allocator.next(2026)));
+
+            // Waiters park on the future instead of starting their own reservation
+            verify(blockRepository, after(200).times(1)).advance(2026, 3);
+            release.countDown();
+
+            Set<String> issued = new HashSet<>();
+            for (Future<String> future : futures) {
+                issued.add(future.get(5, TimeUnit.SECONDS));
+            }
+            assertThat(issued).containsExactlyInAnyOrder("CLM-2026-00001", "CLM-2026-00002", "CLM-2026-00003");
+        } finally {
+            executor.shutdown();
+        }
+        verify(blockRepository, times(1)).advance(2026, 3);
+    }
+
+    @Test
+    void next_shouldReleaseWaitersWhenReservationFails() {
+        when(blockRepository.advance(anyInt(), anyInt()))
+            .thenThrow(new IllegalStateException("boom"))
+            .thenAnswer(inv -> {
+                counters.merge(inv.getArgument(0), (long) (int) inv.getArgument(1), Long::sum);
+                return 1;
+            });
+
+        assertThatThrownBy(() -> allocator.next(2026)).isInstanceOf(IllegalStateException.class);
+        assertThat(allocator.next(2026)).isEqualTo("CLM-2026-00001");
+    }
+}
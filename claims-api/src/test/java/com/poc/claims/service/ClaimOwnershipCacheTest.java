@@ -0,0 +1,88 @@
+package com.poc.claims.service;
+
+import com.poc.claims.repository.ClaimRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimOwnershipCacheTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    private ClaimOwnershipCache cache;
+    private UUID orgId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClaimOwnershipCache(claimRepository, new SimpleMeterRegistry(), 2);
+        orgId = UUID.randomUUID();
+    }
+
+    @Test
+    void requireOwnedBy_shouldQueryOncePerClaim() {
+        UUID claimId = UUID.randomUUID();
+        when(claimRepository.findOrganizationIdById(claimId)).thenReturn(Optional.of(orgId));
+
+        cache.requireOwnedBy(claimId, orgId);
+        cache.requireOwnedBy(claimId, orgId);
+
+        verify(claimRepository, times(1)).findOrganizationIdById(claimId);
+    }
+
+    @Test
+    void requireOwnedBy_shouldRejectOtherOrganizationsFromCache() {
+        UUID claimId = UUID.randomUUID();
+        when(claimRepository.findOrganizationIdById(claimId)).thenReturn(Optional.of(orgId));
+        cache.requireOwnedBy(claimId, orgId);
+
+        assertThatThrownBy(() -> cache.requireOwnedBy(claimId, UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Claim not found");
+        verify(claimRepository, times(1)).findOrganizationIdById(claimId);
+    }
+
+    @Test
+    void requireOwnedBy_shouldNotCacheUnknownClaims() {
+        UUID claimId = UUID.randomUUID();
+        when(claimRepository.findOrganizationIdById(claimId))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(orgId));
+
+        assertThatThrownBy(() -> cache.requireOwnedBy(claimId, orgId))
+            .isInstanceOf(IllegalArgumentException.class);
+        cache.requireOwnedBy(claimId, orgId);
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void requireOwnedBy_shouldEvictLeastRecentlyUsedBeyondMaxEntries() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(claimRepository.findOrganizationIdById(any())).thenReturn(Optional.of(orgId));
+
+        cache.requireOwnedBy(first, orgId);
+        cache.requireOwnedBy(second, orgId);
+        cache.requireOwnedBy(first, orgId);
+        cache.requireOwnedBy(third, orgId);
+        cache.requireOwnedBy(first, orgId);
+        cache.requireOwnedBy(second, orgId);
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(claimRepository, times(1)).findOrganizationIdById(first);
+        verify(claimRepository, times(2)).findOrganizationIdById(second);
+    }
+}
@@ -0,0 +1,100 @@
+package com.poc.claims.service;
+
+import com.poc.claims.dto.ClaimTimeSeriesResponse;
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimDailyRollup;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.repository.ClaimDailyRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimRollupServiceTest {
+
+    @Mock
+    private ClaimDailyRollupRepository claimDailyRollupRepository;
+
+    @InjectMocks
+    private ClaimRollupService claimRollupService;
+
+    private final UUID orgId = UUID.randomUUID();
+
+    @Test
+    void getTimeSeries_weekly_shouldFoldDaysAndFillGaps() {
+        // 2026-03-02 is a Monday
+        LocalDate from = LocalDate.of(2026, 3, 4);
+        LocalDate to = LocalDate.of(2026, 3, 22);
+        when(claimDailyRollupRepository.findByOrganizationIdAndBucketDateBetweenOrderByBucketDateAsc(
+                orgId, LocalDate.of(2026, 3, 2), to))
+            .thenReturn(List.of(
+                rollup(LocalDate.of(2026, 3, 3), 2, "300.00", 1, "100.00"),
+                rollup(LocalDate.of(2026, 3, 8), 1, "50.00", 0, "0.00"),
+                rollup(LocalDate.of(2026, 3, 20), 4, "1000.00", 2, "400.00")));
+
+        ClaimTimeSeriesResponse series = claimRollupService.getTimeSeries(orgId, "week", from, to);
+
+        assertThat(series.getPoints()).extracting(ClaimTimeSeriesResponse.Point::getBucketStart)
+            .containsExactly(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 16));
+        assertThat(series.getPoints().get(0).getFiledCount()).isEqualTo(3);
+        assertThat(series.getPoints().get(0).getFiledAmount()).isEqualByComparingTo("350.00");
+        assertThat(series.getPoints().get(1).getFiledCount()).isZero();
+        assertThat(series.getPoints().get(2).getApprovedCount()).isEqualTo(2);
+        assertThat(series.getPoints().get(2).getApprovedAmount()).isEqualByComparingTo("400.00");
+    }
+
+    @Test
+    void getTimeSeries_shouldRejectUnknownBucket() {
+        assertThatThrownBy(() -> claimRollupService.getTimeSeries(orgId, "month", null, null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("bucket");
+    }
+
+    @Test
+    void getTimeSeries_shouldRejectOversizedRange() {
+        assertThatThrownBy(() -> claimRollupService.getTimeSeries(orgId, "day",
+                LocalDate.of(2020, 1, 1), LocalDate.of(2026, 1, 1)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void recordTransition_shouldCountApprovalsOnTheDecisionDay() {
+        Claim claim = new Claim();
+        claim.setOrganizationId(orgId);
+        claim.setStatus(ClaimStatus.APPROVED);
+        claim.setAmount(new BigDecimal("750.00"));
+        claim.setFiledDate(LocalDateTime.now().minusDays(20));
+
+        claimRollupService.recordTransition(claim, ClaimStatus.UNDER_REVIEW);
+
+        verify(claimDailyRollupRepository).insertIfAbsent(orgId, LocalDate.now());
+        verify(claimDailyRollupRepository).applyDelta(eq(orgId), eq(LocalDate.now()),
+                eq(0L), eq(BigDecimal.ZERO), eq(1L), eq(new BigDecimal("750.00")),
+                eq(0L), eq(BigDecimal.ZERO), any());
+    }
+
+    private ClaimDailyRollup rollup(LocalDate day, long filed, String filedAmount, long approved, String approvedAmount) {
+        ClaimDailyRollup rollup = new ClaimDailyRollup();
+        rollup.setOrganizationId(orgId);
+        rollup.setBucketDate(day);
+        rollup.setFiledCount(filed);
+        rollup.setFiledAmount(new BigDecimal(filedAmount));
+        rollup.setApprovedCount(approved);
+        rollup.setApprovedAmount(new BigDecimal(approvedAmount));
+        rollup.setDeniedAmount(BigDecimal.ZERO);
+        return rollup;
+    }
+}
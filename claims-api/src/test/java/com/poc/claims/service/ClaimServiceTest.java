@@ -1,7 +1,9 @@
 package com.poc.claims.service;
 
 import com.poc.claims.config.OrgContext;
+import com.poc.claims.dto.ClaimStatsResponse;
 import com.poc.claims.dto.CreateClaimRequest;
+import com.poc.claims.dto.SliceResponse;
 import com.poc.claims.dto.UpdateClaimRequest;
 import com.poc.claims.model.*;
 import com.poc.claims.repository.ClaimEventRepository;
@@ -13,16 +15,27 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +47,30 @@ class ClaimServiceTest {
     @Mock
     private ClaimEventRepository claimEventRepository;
 
+    @Mock
+    private ClaimEventWriter claimEventWriter;
+
+    @Mock
+    private ClaimOrgStatsService claimOrgStatsService;
+
+    @Mock
+    private ClaimRollupService claimRollupService;
+
+    @Mock
+    private ClaimStatsCache claimStatsCache;
+
+    @Mock
+    private ClaimRiskAssessmentService claimRiskAssessmentService;
+
+    @Mock
+    private ClaimNumberAllocator claimNumberAllocator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ClaimService claimService;
 
@@ -60,34 +97,18 @@ class ClaimServiceTest {
         request.setAmount(new BigDecimal("5000.00"));
         request.setIncidentDate(LocalDate.of(2026, 1, 15));
 
-        when(claimRepository.countByClaimNumberPrefix(anyString())).thenReturn(0L);
+        when(claimNumberAllocator.next()).thenReturn("CLM-2026-00001");
         when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Claim result = claimService.createClaim(request, userId, adminContext);
 
         assertThat(result.getStatus()).isEqualTo(ClaimStatus.DRAFT);
-        assertThat(result.getClaimNumber()).startsWith("CLM-");
-        assertThat(result.getClaimNumber()).endsWith("-00001");
+        assertThat(result.getClaimNumber()).isEqualTo("CLM-2026-00001");
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getOrganizationId()).isEqualTo(orgId);
         assertThat(result.getType()).isEqualTo(ClaimType.AUTO);
 
-        verify(claimEventRepository).save(any(ClaimEvent.class));
-    }
-
-    @Test
-    void createClaim_shouldIncrementClaimNumber() {
-        CreateClaimRequest request = new CreateClaimRequest();
-        request.setType(ClaimType.PROPERTY);
-
-        when(claimRepository.countByClaimNumberPrefix(anyString())).thenReturn(42L);
-        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
-
-        Claim result = claimService.createClaim(request, userId, adminContext);
-
-        assertThat(result.getClaimNumber()).endsWith("-00043");
+        verify(claimEventWriter).append(any(ClaimEvent.class));
     }
 
     @Test
@@ -120,7 +141,7 @@ class ClaimServiceTest {
         UpdateClaimRequest request = new UpdateClaimRequest();
         request.setDescription("Updated");
 
-        assertThatThrownBy(() -> claimService.updateClaim(existing.getId(), request, userId, adminContext))
+        assertThatThrownBy(() -> claimService.updateClaim(existing.getId(), request, null, userId, adminContext))
             .isInstanceOf(IllegalStateException.class)
             .hasMessageContaining("DRAFT");
     }
@@ -136,7 +157,7 @@ class ClaimServiceTest {
         UpdateClaimRequest request = new UpdateClaimRequest();
         request.setDescription("Updated");
 
-        assertThatThrownBy(() -> claimService.updateClaim(existing.getId(), request, otherUserId, viewerContext))
+        assertThatThrownBy(() -> claimService.updateClaim(existing.getId(), request, null, otherUserId, viewerContext))
             .isInstanceOf(SecurityException.class)
             .hasMessageContaining("owner or an admin");
     }
@@ -149,34 +170,78 @@ class ClaimServiceTest {
         when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
             .thenReturn(Optional.of(existing));
         when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateClaimRequest request = new UpdateClaimRequest();
         request.setDescription("Admin updated");
 
-        Claim result = claimService.updateClaim(existing.getId(), request, otherUserId, adminContext);
+        Claim result = claimService.updateClaim(existing.getId(), request, null, otherUserId, adminContext);
         assertThat(result.getDescription()).isEqualTo("Admin updated");
     }
 
     @Test
-    void submitClaim_shouldTransitionFromDraftToSubmitted() {
+    void updateClaim_shouldPublishRiskInputChangesForOldAndNewType() {
         Claim existing = createTestClaim(ClaimStatus.DRAFT);
+        ClaimType previousType = existing.getType();
 
         when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
             .thenReturn(Optional.of(existing));
         when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        UpdateClaimRequest request = new UpdateClaimRequest();
+        request.setType(previousType == ClaimType.LIABILITY ? ClaimType.AUTO : ClaimType.LIABILITY);
+
+        claimService.updateClaim(existing.getId(), request, null, userId, adminContext);
+
+        verify(eventPublisher).publishEvent(new ClaimRiskInputsChangedEvent(orgId, userId, request.getType()));
+        verify(eventPublisher).publishEvent(new ClaimRiskInputsChangedEvent(orgId, userId, previousType));
+    }
+
+    @Test
+    void updateClaim_descriptionOnly_shouldNotPublishRiskInputChange() {
+        Claim existing = createTestClaim(ClaimStatus.DRAFT);
+
+        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
+            .thenReturn(Optional.of(existing));
+        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        UpdateClaimRequest request = new UpdateClaimRequest();
+        request.setDescription("Reworded");
+
+        claimService.updateClaim(existing.getId(), request, null, userId, adminContext);
+
+        verify(eventPublisher, never()).publishEvent(any(ClaimRiskInputsChangedEvent.class));
+    }
+
+    @Test
+    void submitClaim_shouldTransitionFromDraftToSubmitted() {
+        Claim existing = createTestClaim(ClaimStatus.DRAFT);
+        stubStatusUpdate(existing);
 
         Claim result = claimService.submitClaim(existing.getId(), userId, adminContext);
         assertThat(result.getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(claimRepository).compareAndSetStatus(eq(existing.getId()), eq(orgId), eq("DRAFT"), eq("SUBMITTED"),
+            eq(10), eq(true), eq(userId), any(), any(), any(), any());
+        verify(claimRepository, never()).save(any());
+        verify(claimRepository, never()).findTransitionStateByIdAndOrganizationId(any(), any());
+        verify(claimRiskAssessmentService).assess(result);
+    }
+
+    @Test
+    void approveClaim_shouldFailWithoutSideEffectsWhenAnotherApproverWins() {
+        Claim existing = createTestClaim(ClaimStatus.APPROVED);
+        stubTransitionState(existing);
+
+        assertThatThrownBy(() -> claimService.approveClaim(existing.getId(), userId, adminContext))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(claimRepository, never()).findByIdAndOrganizationId(any(), any());
+        verifyNoInteractions(claimOrgStatsService, claimRollupService, claimEventWriter, eventPublisher);
     }
 
     @Test
     void submitClaim_shouldRejectNonDraftClaim() {
         Claim existing = createTestClaim(ClaimStatus.UNDER_REVIEW);
-
-        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
-            .thenReturn(Optional.of(existing));
+        stubTransitionState(existing);
 
         assertThatThrownBy(() -> claimService.submitClaim(existing.getId(), userId, adminContext))
             .isInstanceOf(IllegalStateException.class)
@@ -196,10 +261,7 @@ class ClaimServiceTest {
     void reviewClaim_shouldTransitionFromSubmittedToUnderReview() {
         Claim existing = createTestClaim(ClaimStatus.SUBMITTED);
 
-        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
-            .thenReturn(Optional.of(existing));
-        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        stubStatusUpdate(existing);
 
         Claim result = claimService.reviewClaim(existing.getId(), userId, adminContext);
         assertThat(result.getStatus()).isEqualTo(ClaimStatus.UNDER_REVIEW);
@@ -209,10 +271,7 @@ class ClaimServiceTest {
     void approveClaim_shouldAllowAdminOrBilling() {
         Claim existing = createTestClaim(ClaimStatus.UNDER_REVIEW);
 
-        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
-            .thenReturn(Optional.of(existing));
-        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        stubStatusUpdate(existing);
 
         Claim result = claimService.approveClaim(existing.getId(), userId, billingContext);
         assertThat(result.getStatus()).isEqualTo(ClaimStatus.APPROVED);
@@ -230,9 +289,7 @@ class ClaimServiceTest {
     @Test
     void approveClaim_shouldRejectNonUnderReviewStatus() {
         Claim existing = createTestClaim(ClaimStatus.SUBMITTED);
-
-        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
-            .thenReturn(Optional.of(existing));
+        stubTransitionState(existing);
 
         assertThatThrownBy(() -> claimService.approveClaim(existing.getId(), userId, adminContext))
             .isInstanceOf(IllegalStateException.class)
@@ -251,10 +308,7 @@ class ClaimServiceTest {
     void denyClaim_shouldTransitionFromUnderReviewToDenied() {
         Claim existing = createTestClaim(ClaimStatus.UNDER_REVIEW);
 
-        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
-            .thenReturn(Optional.of(existing));
-        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        stubStatusUpdate(existing);
 
         Claim result = claimService.denyClaim(existing.getId(), userId, adminContext);
         assertThat(result.getStatus()).isEqualTo(ClaimStatus.DENIED);
@@ -263,21 +317,24 @@ class ClaimServiceTest {
     @Test
     void closeClaim_shouldAllowFromApprovedOrDenied() {
         Claim approved = createTestClaim(ClaimStatus.APPROVED);
-        when(claimRepository.findByIdAndOrganizationId(approved.getId(), orgId))
-            .thenReturn(Optional.of(approved));
-        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        stubStatusUpdate(approved);
 
         Claim result = claimService.closeClaim(approved.getId(), userId, adminContext);
         assertThat(result.getStatus()).isEqualTo(ClaimStatus.CLOSED);
+        verify(claimOrgStatsService).recordTransition(approved, ClaimStatus.APPROVED);
+
+        Claim denied = createTestClaim(ClaimStatus.DENIED);
+        stubStatusUpdate(denied);
+
+        result = claimService.closeClaim(denied.getId(), userId, adminContext);
+        assertThat(result.getStatus()).isEqualTo(ClaimStatus.CLOSED);
+        verify(claimOrgStatsService).recordTransition(denied, ClaimStatus.DENIED);
     }
 
     @Test
     void closeClaim_shouldRejectFromDraftStatus() {
         Claim draft = createTestClaim(ClaimStatus.DRAFT);
-
-        when(claimRepository.findByIdAndOrganizationId(draft.getId(), orgId))
-            .thenReturn(Optional.of(draft));
+        stubTransitionState(draft);
 
         assertThatThrownBy(() -> claimService.closeClaim(draft.getId(), userId, adminContext))
             .isInstanceOf(IllegalStateException.class)
@@ -285,41 +342,158 @@ class ClaimServiceTest {
     }
 
     @Test
-    void getClaim_shouldThrowWhenNotFound() {
+    void submitClaim_shouldCheckOwnerInTheUpdateForNonAdmins() {
+        Claim existing = createTestClaim(ClaimStatus.DRAFT);
+        existing.setUserId(UUID.randomUUID());
+        stubTransitionState(existing);
+
+        assertThatThrownBy(() -> claimService.submitClaim(existing.getId(), userId, billingContext))
+            .isInstanceOf(SecurityException.class)
+            .hasMessageContaining("owner");
+        verify(claimRepository).compareAndSetStatus(eq(existing.getId()), eq(orgId), eq("DRAFT"), eq("SUBMITTED"),
+            anyInt(), eq(false), eq(userId), any(), any(), any(), any());
+    }
+
+    @Test
+    void reviewClaim_shouldThrowWhenNotFound() {
         UUID claimId = UUID.randomUUID();
-        when(claimRepository.findByIdAndOrganizationId(claimId, orgId))
+        when(claimRepository.findTransitionStateByIdAndOrganizationId(claimId, orgId))
             .thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> claimService.getClaim(claimId, adminContext))
+        assertThatThrownBy(() -> claimService.reviewClaim(claimId, userId, adminContext))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("not found");
     }
 
     @Test
-    void generateClaimNumber_shouldFormatCorrectly() {
-        when(claimRepository.countByClaimNumberPrefix(anyString())).thenReturn(0L);
-        String number = claimService.generateClaimNumber();
-        assertThat(number).matches("CLM-\\d{4}-\\d{5}");
+    void getClaim_shouldThrowWhenNotFound() {
+        UUID claimId = UUID.randomUUID();
+        when(claimRepository.findByIdAndOrganizationId(claimId, orgId))
+            .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> claimService.getClaim(claimId, adminContext))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not found");
     }
 
     @Test
     void createEvent_shouldBeSavedOnStateTransition() {
         Claim existing = createTestClaim(ClaimStatus.DRAFT);
-        when(claimRepository.findByIdAndOrganizationId(existing.getId(), orgId))
-            .thenReturn(Optional.of(existing));
-        when(claimRepository.save(any(Claim.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(claimEventRepository.save(any(ClaimEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        stubStatusUpdate(existing);
 
         claimService.submitClaim(existing.getId(), userId, adminContext);
 
         ArgumentCaptor<ClaimEvent> captor = ArgumentCaptor.forClass(ClaimEvent.class);
-        verify(claimEventRepository).save(captor.capture());
+        verify(claimEventWriter).append(captor.capture());
         ClaimEvent event = captor.getValue();
         assertThat(event.getEventType()).isEqualTo(EventType.SUBMITTED);
         assertThat(event.getActorUserId()).isEqualTo(userId);
         assertThat(event.getClaimId()).isEqualTo(existing.getId());
     }
 
+    @Test
+    void getClaimStats_shouldBuildResponseFromOrgCounters() {
+        when(claimOrgStatsService.getCounters(orgId)).thenReturn(List.of(
+            new ClaimOrgStats(orgId, ClaimStatus.DRAFT, ClaimType.AUTO, 2, new BigDecimal("3000.00")),
+            new ClaimOrgStats(orgId, ClaimStatus.APPROVED, ClaimType.PROPERTY, 3, new BigDecimal("9000.00")),
+            new ClaimOrgStats(orgId, ClaimStatus.DENIED, ClaimType.AUTO, 1, new BigDecimal("500.00"))));
+        when(claimRepository.countByOrganizationIdAndCreatedAtAfter(eq(orgId), any())).thenReturn(3L);
+        when(claimRepository.countByPriority(orgId)).thenReturn(List.of(
+            new Object[]{"CRITICAL", 1L}, new Object[]{"MEDIUM", 5L}));
+        when(claimStatsCache.get(eq(orgId), any())).thenAnswer(inv ->
+            inv.<Function<UUID, ClaimStatsResponse>>getArgument(1).apply(orgId));
+
+        ClaimStatsResponse stats = claimService.getClaimStats(adminContext);
+
+        assertThat(stats.getTotalClaims()).isEqualTo(6);
+        assertThat(stats.getOpenClaims()).isEqualTo(5);
+        assertThat(stats.getClaimsByStatus()).containsEntry("DRAFT", 2L).containsEntry("APPROVED", 3L)
+            .containsEntry("DENIED", 1L).containsEntry("CLOSED", 0L);
+        assertThat(stats.getClaimsByType()).containsEntry("AUTO", 3L).containsEntry("PROPERTY", 3L)
+            .containsEntry("HEALTH", 0L);
+        assertThat(stats.getTotalExposure()).isEqualByComparingTo("12000.00");
+        assertThat(stats.getApprovalRate()).isEqualTo(75.0);
+        assertThat(stats.getClaimsThisWeek()).isEqualTo(3);
+        assertThat(stats.getClaimsByPriority()).containsEntry("CRITICAL", 1L).containsEntry("MEDIUM", 5L)
+            .containsEntry("HIGH", 0L).containsEntry("LOW", 0L);
+    }
+
+    @Test
+    void submitClaim_shouldMoveOrgCounters() {
+        Claim existing = createTestClaim(ClaimStatus.DRAFT);
+        stubStatusUpdate(existing);
+
+        claimService.submitClaim(existing.getId(), userId, adminContext);
+
+        verify(claimOrgStatsService).recordTransition(existing, ClaimStatus.DRAFT);
+        verify(eventPublisher).publishEvent(new ClaimChangedEvent(orgId, existing.getId()));
+    }
+
+    @Test
+    void rebuildClaimStats_shouldRequireAdminRole() {
+        assertThatThrownBy(() -> claimService.rebuildClaimStats(billingContext))
+            .isInstanceOf(SecurityException.class)
+            .hasMessageContaining("admin");
+        verifyNoInteractions(claimOrgStatsService);
+    }
+
+    @Test
+    void listClaimsSlice_shouldSkipCountAndTakeTotalFromCounters() {
+        Pageable pageable = PageRequest.of(0, 2);
+        Claim claim = createTestClaim(ClaimStatus.SUBMITTED);
+        when(claimRepository.findSliceByOrganizationIdAndStatus(orgId, ClaimStatus.SUBMITTED, pageable))
+            .thenReturn(new SliceImpl<>(List.of(claim, claim), pageable, true));
+        when(claimOrgStatsService.countClaims(orgId, ClaimStatus.SUBMITTED)).thenReturn(42L);
+
+        SliceResponse<Claim> slice = claimService.listClaimsSlice(adminContext, ClaimStatus.SUBMITTED, pageable, true);
+
+        assertThat(slice.getItems()).hasSize(2);
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getApproximateTotal()).isEqualTo(42L);
+        verify(claimRepository, never()).findByOrganizationIdAndStatus(any(), any(), any());
+    }
+
+    @Test
+    void listClaimsSlice_shouldOmitTotalUnlessRequested() {
+        Pageable pageable = PageRequest.of(1, 20);
+        when(claimRepository.findSliceByOrganizationId(orgId, pageable))
+            .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        SliceResponse<Claim> slice = claimService.listClaimsSlice(adminContext, null, pageable, false);
+
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getApproximateTotal()).isNull();
+        verifyNoInteractions(claimOrgStatsService);
+    }
+
+    @Test
+    void submitClaim_shouldRescoreInTheUpdateWithOneNow() {
+        Claim existing = createTestClaim(ClaimStatus.DRAFT);
+        stubStatusUpdate(existing);
+
+        claimService.submitClaim(existing.getId(), userId, adminContext);
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> olderThan7 = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> olderThan30 = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(claimRepository).compareAndSetStatus(any(), any(), any(), any(),
+            eq(PriorityCalculator.statusBoost(ClaimStatus.SUBMITTED)), anyBoolean(), any(),
+            now.capture(), olderThan7.capture(), any(), olderThan30.capture());
+        assertThat(olderThan7.getValue()).isEqualTo(PriorityCalculator.ageCutoff(now.getValue(), 7));
+        assertThat(olderThan30.getValue()).isEqualTo(PriorityCalculator.ageCutoff(now.getValue(), 30));
+    }
+
+    @Test
+    void withPrioritySort_shouldSortByScore() {
+        Pageable pageable = PageRequest.of(2, 10, Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("createdAt")));
+
+        Pageable mapped = ClaimService.withPrioritySort(pageable);
+
+        assertThat(mapped.getSort().toList()).containsExactly(
+            Sort.Order.desc("priorityScore"), Sort.Order.asc("createdAt"));
+        assertThat(mapped.getPageNumber()).isEqualTo(2);
+    }
+
     private Claim createTestClaim(ClaimStatus status) {
         Claim claim = new Claim();
         claim.setId(UUID.randomUUID());
@@ -330,6 +504,35 @@ class ClaimServiceTest {
         claim.setType(ClaimType.AUTO);
         claim.setDescription("Test claim");
         claim.setAmount(new BigDecimal("1000.00"));
+        claim.setVersion(0L);
         return claim;
     }
+
+    // Stands in for the conditional UPDATE: moves the claim as the row would when the source status
+    // matches, and the re-read after it returns the claim
+    private void stubStatusUpdate(Claim claim) {
+        when(claimRepository.compareAndSetStatus(eq(claim.getId()), eq(orgId), any(), any(), anyInt(), anyBoolean(), any(),
+                any(), any(), any(), any()))
+            .thenAnswer(inv -> {
+                if (!claim.getStatus().name().equals(inv.getArgument(2))) {
+                    return 0;
+                }
+                claim.setStatus(ClaimStatus.valueOf(inv.getArgument(3)));
+                claim.setVersion(claim.getVersion() + 1);
+                return 1;
+            });
+        when(claimRepository.findByIdAndOrganizationId(claim.getId(), orgId)).thenReturn(Optional.of(claim));
+    }
+
+    private void stubTransitionState(Claim claim) {
+        when(claimRepository.findTransitionStateByIdAndOrganizationId(claim.getId(), orgId))
+            .thenReturn(Optional.of(new ClaimRepository.TransitionState() {
+                @Override
+                public ClaimStatus getStatus() { return claim.getStatus(); }
+
+                @Override
+                public UUID getUserId() { return claim.getUserId(); }
+            }));
+    }
+
 }
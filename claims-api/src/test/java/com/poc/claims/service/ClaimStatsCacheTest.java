@@ -0,0 +1,145 @@
+package com.poc.claims.service;
+
+import com.poc.claims.dto.ClaimStatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClaimStatsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimStatsCache cache;
+    private UUID orgId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ClaimStatsCache(meterRegistry, 2, Duration.ofMinutes(5), 1);
+        orgId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void get_shouldServeHitsWithoutRecomputing() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(orgId, id -> stats(loads.incrementAndGet()));
+        ClaimStatsResponse second = cache.get(orgId, id -> stats(loads.incrementAndGet()));
+
+        assertThat(second.getTotalClaims()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidate_shouldRefreshInBackgroundAfterNextRead() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(orgId, id -> stats(loads.incrementAndGet()));
+
+        cache.onClaimChanged(new ClaimChangedEvent(orgId, UUID.randomUUID()));
+
+        assertThat(cache.get(orgId, id -> stats(loads.incrementAndGet())).getTotalClaims()).isEqualTo(1);
+        awaitTotal(2);
+        assertThat(meterRegistry.get("claims.stats.cache.recompute").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMisses_shouldShareOneComputation() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ClaimStatsResponse> first = CompletableFuture.supplyAsync(() ->
+            cache.get(orgId, id -> {
+                started.countDown();
+                await(release);
+                return stats(loads.incrementAndGet());
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ClaimStatsResponse> second = CompletableFuture.supplyAsync(() ->
+            cache.get(orgId, id -> stats(loads.incrementAndGet())));
+        // Give the second caller time to join the in-flight computation
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getTotalClaims()).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS).getTotalClaims()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void staleEntry_shouldServeLastValueToEveryCallerWhileRefreshing() {
+        cache.get(orgId, id -> stats(1));
+        cache.invalidate(orgId);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ClaimStatsResponse first = cache.get(orgId, id -> {
+            loads.incrementAndGet();
+            await(release);
+            return stats(2);
+        });
+        ClaimStatsResponse second = cache.get(orgId, id -> {
+            loads.incrementAndGet();
+            return stats(99);
+        });
+
+        assertThat(first.getTotalClaims()).isEqualTo(1);
+        assertThat(second.getTotalClaims()).isEqualTo(1);
+        assertThat(requests("stale")).isEqualTo(2.0);
+
+        release.countDown();
+        awaitTotal(2);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void cache_shouldStayBounded() {
+        for (int i = 0; i < 5; i++) {
+            cache.get(UUID.randomUUID(), id -> stats(1));
+        }
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private void awaitTotal(long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.get(orgId, id -> stats(-1)).getTotalClaims() != expected) {
+            assertThat(System.nanoTime()).as("background refresh finished").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("claims.stats.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static ClaimStatsResponse stats(long total) {
+        ClaimStatsResponse stats = new ClaimStatsResponse();
+        stats.setTotalClaims(total);
+        return stats;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
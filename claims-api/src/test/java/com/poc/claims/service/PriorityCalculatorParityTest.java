@@ -0,0 +1,126 @@
+package com.poc.claims.service;
+
+import com.poc.claims.TestSecurityConfig;
+import com.poc.claims.model.Claim;
+import com.poc.claims.model.ClaimStatus;
+import com.poc.claims.model.ClaimType;
+import com.poc.claims.repository.ClaimRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs randomized claims through both PriorityCalculator and the SQL rescoring in
+ * ClaimRepository.rescoreDue and checks they agree claim by claim. The seed is fixed so a
+ * failure reproduces; the claims are rolled back with the test transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@Transactional
+class PriorityCalculatorParityTest {
+
+    private static final long SEED = 20_260_417L;
+
+    private static final String[] BOUNDARY_AMOUNTS = {
+        "0.01", "999.99", "1000.00", "9999.99", "10000.00", "49999.99",
+        "50000.00", "99999.99", "100000.00", "250000.00"
+    };
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimPriorityRescoreJob rescoreJob;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void sqlRescore_shouldMatchCalculatorForRandomizedClaims() {
+        Random random = new Random(SEED);
+        UUID orgId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        List<Claim> claims = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Claim claim = new Claim();
+            claim.setId(UUID.randomUUID());
+            claim.setClaimNumber("P-" + orgId.toString().substring(0, 8) + "-" + i);
+            claim.setUserId(UUID.randomUUID());
+            claim.setOrganizationId(orgId);
+            claim.setType(pick(random, ClaimType.values()));
+            claim.setStatus(pick(random, ClaimStatus.values()));
+            claim.setAmount(randomAmount(random));
+            claim.setFiledDate(randomFiledDate(random, now));
+            // Stale on purpose so the job has to re-score every one of them
+            claim.setPriorityScore(-1);
+            claim.setPriorityRescoreAt(now.minusSeconds(1));
+            claims.add(claim);
+        }
+        claimRepository.saveAll(claims);
+        entityManager.flush();
+
+        rescoreJob.rescoreDue(now);
+        // The job's UPDATEs bypass the persistence context; read the rows back from the database
+        entityManager.clear();
+
+        for (Claim claim : claims) {
+            Claim rescored = claimRepository.findById(claim.getId()).orElseThrow();
+            PriorityCalculator.PriorityResult expected = PriorityCalculator.calculate(
+                    claim.getType(), claim.getAmount(), claim.getFiledDate(), claim.getStatus(), now);
+            assertThat(rescored.getPriorityScore()).as("score of %s", describe(claim))
+                .isEqualTo(expected.score());
+            assertThat(rescored.getPriority()).as("priority of %s", describe(claim))
+                .isEqualTo(expected.priority());
+            assertThat(rescored.getPriorityRescoreAt()).as("next rescore of %s", describe(claim))
+                .isEqualTo(PriorityCalculator.nextRescoreAt(claim.getFiledDate(), now));
+        }
+    }
+
+    private static String describe(Claim claim) {
+        return claim.getType() + "/" + claim.getStatus() + "/" + claim.getAmount() + "/" + claim.getFiledDate();
+    }
+
+    private static BigDecimal randomAmount(Random random) {
+        int roll = random.nextInt(10);
+        if (roll == 0) {
+            return null;
+        }
+        if (roll < 5) {
+            return new BigDecimal(BOUNDARY_AMOUNTS[random.nextInt(BOUNDARY_AMOUNTS.length)]);
+        }
+        return BigDecimal.valueOf(random.nextInt(20_000_000), 2);
+    }
+
+    private static LocalDateTime randomFiledDate(Random random, LocalDateTime now) {
+        int roll = random.nextInt(10);
+        if (roll == 0) {
+            return null;
+        }
+        if (roll < 5) {
+            // Exactly on, or one second either side of, an age threshold
+            int days = new int[]{8, 15, 31}[random.nextInt(3)];
+            return now.minusDays(days).plusSeconds(random.nextInt(3) - 1);
+        }
+        if (roll == 5) {
+            return now.plusHours(random.nextInt(48) + 1);
+        }
+        return now.minusSeconds(random.nextInt(45 * 24 * 3600));
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
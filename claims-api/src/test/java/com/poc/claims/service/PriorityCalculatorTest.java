@@ -1,11 +1,13 @@
 package com.poc.claims.service;
 
+import com.poc.claims.model.ClaimPriority;
 import com.poc.claims.model.ClaimStatus;
 import com.poc.claims.model.ClaimType;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,4 +74,31 @@ class PriorityCalculatorTest {
                 ClaimType.AUTO, new BigDecimal("2000"), LocalDateTime.now(), ClaimStatus.SUBMITTED);
         assertTrue(submittedResult.score() > draftResult.score());
     }
+
+    @Test
+    void scorer_ageThresholdsMatchWholeDaysRule() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 31, 12, 0);
+        var scorer = PriorityCalculator.scorer(now);
+        for (int days = 0; days <= 40; days++) {
+            for (long nudge : new long[]{-1, 0, 1}) {
+                LocalDateTime filed = now.minusDays(days).plusSeconds(nudge);
+                long daysOld = ChronoUnit.DAYS.between(filed, now);
+                int expectedAge = daysOld > 30 ? 20 : daysOld > 14 ? 10 : daysOld > 7 ? 5 : 0;
+                assertEquals(expectedAge, scorer.score(null, null, filed, ClaimStatus.DRAFT),
+                        "filed " + filed);
+                assertEquals(expectedAge, PriorityCalculator.calculate(null, null, filed, ClaimStatus.DRAFT, now).score(),
+                        "calculate, filed " + filed);
+            }
+        }
+    }
+
+    @Test
+    void scorer_amountThresholdsIgnoreScale() {
+        var scorer = PriorityCalculator.scorer(LocalDateTime.now());
+        assertEquals(10, scorer.score(null, new BigDecimal("1000"), null, ClaimStatus.DRAFT));
+        assertEquals(0, scorer.score(null, new BigDecimal("999.999"), null, ClaimStatus.DRAFT));
+        assertEquals(40, scorer.score(null, new BigDecimal("100000.0"), null, ClaimStatus.DRAFT));
+        assertEquals(ClaimPriority.CRITICAL,
+                scorer.priority(ClaimType.LIABILITY, new BigDecimal("150000.00"), null, ClaimStatus.SUBMITTED));
+    }
 }
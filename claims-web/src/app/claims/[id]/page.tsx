@@ -15,60 +15,17 @@ import { ClaimActions } from "./ClaimActions";
 import { apiClient } from "@/lib/api";
 import { formatCurrency } from "@/lib/format";
 import { isAdmin } from "@/lib/permissions";
-import type {
-  Claim,
-  ClaimEvent,
-  RiskSignalsResponse,
-  ClaimNote,
-  ClaimAttachment,
-  PriorityLevel,
-} from "@/types/claim";
+import type { ClaimDetail, PriorityLevel } from "@/types/claim";
 
-async function fetchClaim(id: string): Promise<Claim | null> {
+async function fetchDetail(id: string): Promise<ClaimDetail | null> {
   try {
-    return await apiClient<Claim>(`/api/claims/${id}`);
+    return await apiClient<ClaimDetail>(`/api/claims/${id}/detail`);
   } catch (err) {
     if (isRedirectError(err)) throw err;
     return null;
   }
 }
 
-async function fetchEvents(id: string): Promise<ClaimEvent[]> {
-  try {
-    return await apiClient<ClaimEvent[]>(`/api/claims/${id}/events`);
-  } catch (err) {
-    if (isRedirectError(err)) throw err;
-    return [];
-  }
-}
-
-async function fetchRiskSignals(id: string): Promise<RiskSignalsResponse | null> {
-  try {
-    return await apiClient<RiskSignalsResponse>(`/api/claims/${id}/risk-signals`);
-  } catch (err) {
-    if (isRedirectError(err)) throw err;
-    return null;
-  }
-}
-
-async function fetchNotes(id: string): Promise<ClaimNote[]> {
-  try {
-    return await apiClient<ClaimNote[]>(`/api/claims/${id}/notes`);
-  } catch (err) {
-    if (isRedirectError(err)) throw err;
-    return [];
-  }
-}
-
-async function fetchAttachments(id: string): Promise<ClaimAttachment[]> {
-  try {
-    return await apiClient<ClaimAttachment[]>(`/api/claims/${id}/attachments`);
-  } catch (err) {
-    if (isRedirectError(err)) throw err;
-    return [];
-  }
-}
-
 export default async function ClaimDetailPage({
   params,
 }: {
@@ -78,15 +35,13 @@ export default async function ClaimDetailPage({
   if (!session) redirect("/");
 
   const { id } = await params;
-  const [claim, events, riskSignals, notes, attachments] = await Promise.all([
-    fetchClaim(id),
-    fetchEvents(id),
-    fetchRiskSignals(id),
-    fetchNotes(id),
-    fetchAttachments(id),
-  ]);
+  const detail = await fetchDetail(id);
+  if (!detail) notFound();
 
-  if (!claim) notFound();
+  const { claim, riskSignals } = detail;
+  const events = detail.events ?? [];
+  const notes = detail.notes ?? [];
+  const attachments = detail.attachments ?? [];
 
   const cookieStore = await cookies();
   const orgId = cookieStore.get("selectedOrgId")?.value ?? "";
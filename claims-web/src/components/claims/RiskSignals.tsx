@@ -35,6 +35,9 @@ export function RiskSignals({ data }: { data: RiskSignalsResponse }) {
             <p className="text-xs text-muted-foreground">{signal.description}</p>
           </div>
         ))}
+        <p className="text-xs text-muted-foreground">
+          Assessed {new Date(data.computedAt).toLocaleDateString()} {new Date(data.computedAt).toLocaleTimeString()}
+        </p>
       </CardContent>
     </Card>
   );
@@ -75,6 +75,7 @@ export interface RiskSignalsResponse {
   overallRisk: string;
   riskScore: number;
   signals: RiskSignal[];
+  computedAt: string;
 }
 
 export interface ClaimNote {
@@ -96,3 +97,11 @@ export interface ClaimAttachment {
   uploadedByDisplayName: string;
   createdAt: string;
 }
+
+export interface ClaimDetail {
+  claim: Claim;
+  events?: ClaimEvent[];
+  notes?: ClaimNote[];
+  attachments?: ClaimAttachment[];
+  riskSignals?: RiskSignalsResponse;
+}